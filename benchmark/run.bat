@@ -17,6 +17,6 @@ CALL mvn validate
 CALL mvn clean install
 
 REM run the benchmark
-CALL java -jar target/benchmarks.jar
+CALL java -jar target/benchmarks.jar %*
 
 @ECHO ON
@@ -22,5 +22,5 @@ cd benchmark
 ../mvnw --batch-mode --quiet --fail-fast clean install
 
 # run the benchmark
-java -jar target/benchmarks.jar
+java -jar target/benchmarks.jar "$@"
 
@@ -0,0 +1,94 @@
+
+package benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.factory.UuidFactory;
+import com.github.f4b6a3.uuid.factory.standard.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeOrderedEpochFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeOrderedFactory;
+
+/**
+ * Compares the allocation rate of {@code create()} and {@code createInto()}.
+ * <p>
+ * Run the {@link #main(String[])} method to execute it with the GC profiler, or
+ * pass the option `-prof gc` to JMH. The metric `gc.alloc.rate.norm` shows the
+ * bytes allocated per operation.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AllocationFree {
+
+	@Param({ "v4", "v6", "v7" })
+	String version;
+
+	UuidFactory factory;
+	long[] bits = new long[2];
+	byte[] bytes = new byte[16];
+	ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+
+	@Setup
+	public void setup() {
+		if ("v4".equals(version)) {
+			factory = RandomBasedFactory.builder().withFastRandom().build();
+		} else if ("v6".equals(version)) {
+			factory = new TimeOrderedFactory();
+		} else {
+			factory = TimeOrderedEpochFactory.builder().withFastRandom().build();
+		}
+	}
+
+	@Benchmark
+	public UUID create() {
+		return factory.create();
+	}
+
+	@Benchmark
+	public long[] createInto() {
+		factory.createInto(bits, 0);
+		return bits;
+	}
+
+	@Benchmark
+	public byte[] createIntoBytes() {
+		factory.createInto(bytes, 0);
+		return bytes;
+	}
+
+	@Benchmark
+	public ByteBuffer createIntoBuffer() {
+		buffer.clear();
+		factory.createInto(buffer);
+		return buffer;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(AllocationFree.class.getName()) //
+				.addProfiler("gc") //
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,104 @@
+
+package benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.enums.UuidNamespace;
+import com.github.f4b6a3.uuid.factory.standard.NameBasedSha1Factory;
+
+/**
+ * Compares the bulk methods of the UUIDv5 factory with a sequential loop.
+ * <p>
+ * The parallelism 0 means a plain loop on the benchmark thread.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameBasedBulk {
+
+	@Param({ "1000", "100000", "1000000" })
+	int size;
+
+	@Param({ "0", "1", "2", "4", "8" })
+	int parallelism;
+
+	String[] names;
+	byte[][] bytes;
+	ForkJoinPool pool;
+	NameBasedSha1Factory factory;
+
+	@Setup
+	public void setup() {
+
+		names = new String[size];
+		bytes = new byte[size][];
+		for (int i = 0; i < size; i++) {
+			names[i] = "sku-" + i;
+			bytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+		}
+
+		factory = new NameBasedSha1Factory(UuidNamespace.NAMESPACE_URL);
+		pool = parallelism > 0 ? new ForkJoinPool(parallelism) : null;
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public UUID[] createAllStrings() {
+		if (pool == null) {
+			UUID[] uuids = new UUID[size];
+			for (int i = 0; i < size; i++) {
+				uuids[i] = factory.create(names[i]);
+			}
+			return uuids;
+		}
+		return factory.createAll(names, pool);
+	}
+
+	@Benchmark
+	public UUID[] createAllBytes() {
+		if (pool == null) {
+			UUID[] uuids = new UUID[size];
+			for (int i = 0; i < size; i++) {
+				uuids[i] = factory.create(bytes[i]);
+			}
+			return uuids;
+		}
+		return factory.createAll(bytes, pool);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(NameBasedBulk.class.getName()) //
+				.build();
+		new Runner(options).run();
+	}
+}
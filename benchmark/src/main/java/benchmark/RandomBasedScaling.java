@@ -0,0 +1,85 @@
+
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.factory.StripedUuidFactory;
+import com.github.f4b6a3.uuid.factory.UuidFactory;
+import com.github.f4b6a3.uuid.factory.standard.RandomBasedFactory;
+
+/**
+ * Shows how the UUIDv4 factory scales when its random source is thread-safe.
+ * <p>
+ * All threads share the same factory. The "fastLocked" source is the same
+ * {@link ThreadLocalRandom} as "fast", but it is not declared thread-safe, so
+ * it is called under the lock. The "striped" source shards "fastLocked"
+ * factories with {@link StripedUuidFactory}. Run the {@link #main(String[])}
+ * method to execute it with 1 to 64 threads, or pass the option `-t` to JMH.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RandomBasedScaling {
+
+	@Param({ "fast", "fastLocked", "safe", "buffered", "striped" })
+	String random;
+
+	UuidFactory factory;
+
+	@Setup
+	public void setup() {
+
+		if ("fast".equals(random)) {
+			factory = RandomBasedFactory.builder().withFastRandom().build();
+		} else if ("fastLocked".equals(random)) {
+			factory = fastLocked();
+		} else if ("buffered".equals(random)) {
+			factory = RandomBasedFactory.builder().withSafeRandom(4096).build();
+		} else if ("striped".equals(random)) {
+			factory = new StripedUuidFactory(RandomBasedScaling::fastLocked);
+		} else {
+			factory = RandomBasedFactory.builder().build();
+		}
+	}
+
+	static RandomBasedFactory fastLocked() {
+		return RandomBasedFactory.builder().withRandomFunction(() -> ThreadLocalRandom.current().nextLong(), false)
+				.build();
+	}
+
+	@Benchmark
+	public UUID create() {
+		return factory.create();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : new int[] { 1, 2, 4, 8, 16, 32, 64 }) {
+			Options options = new OptionsBuilder() //
+					.include(RandomBasedScaling.class.getName()) //
+					.threads(threads) //
+					.build();
+			new Runner(options).run();
+		}
+	}
+}
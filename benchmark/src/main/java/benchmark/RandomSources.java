@@ -0,0 +1,79 @@
+
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.factory.function.impl.ChaCha20RandomFunction;
+import com.github.f4b6a3.uuid.factory.standard.RandomBasedFactory;
+
+/**
+ * Compares the random sources of the UUIDv4 factory.
+ * <p>
+ * The sources are:
+ * <ul>
+ * <li>default: the {@code DefaultRandomFunction};
+ * <li>buffered: {@code withSafeRandom(4096)};
+ * <li>chacha20: the {@link ChaCha20RandomFunction};
+ * <li>fast: {@code withFastRandom()}.
+ * </ul>
+ * All threads share the same factory. Run the {@link #main(String[])} method to
+ * execute it with 1 to 64 threads, or pass the option `-t` to JMH.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RandomSources {
+
+	@Param({ "default", "buffered", "chacha20", "fast" })
+	String source;
+
+	RandomBasedFactory factory;
+
+	@Setup
+	public void setup() {
+		if ("buffered".equals(source)) {
+			factory = RandomBasedFactory.builder().withSafeRandom(4096).build();
+		} else if ("chacha20".equals(source)) {
+			factory = RandomBasedFactory.builder().withRandomFunction(new ChaCha20RandomFunction()).build();
+		} else if ("fast".equals(source)) {
+			factory = RandomBasedFactory.builder().withFastRandom().build();
+		} else {
+			factory = RandomBasedFactory.builder().build();
+		}
+	}
+
+	@Benchmark
+	public UUID create() {
+		return factory.create();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : new int[] { 1, 2, 4, 8, 16, 32, 64 }) {
+			Options options = new OptionsBuilder() //
+					.include(RandomSources.class.getName()) //
+					.threads(threads) //
+					.build();
+			new Runner(options).run();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.factory.AbstTimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeOrderedFactory;
+
+/**
+ * Compares the locked, the lock-free and the striped engines of the UUIDv1 and
+ * UUIDv6 factories.
+ * <p>
+ * The "spill" engine is the locked engine with 14 clock sequence bits used as a
+ * counter when the 10,000 ticks of a millisecond are spent.
+ * <p>
+ * All threads share the same factory. Run the {@link #main(String[])} method to
+ * execute it with 1 to 64 threads, or pass the option `-t` to JMH.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimeBasedContention {
+
+	@Param({ "v1", "v6" })
+	String version;
+
+	@Param({ "locked", "lockFree", "striped", "spill" })
+	String engine;
+
+	AbstTimeBasedFactory factory;
+
+	@Setup
+	public void setup() {
+
+		AbstTimeBasedFactory.Builder<? extends AbstTimeBasedFactory, ?> builder;
+		if ("v1".equals(version)) {
+			builder = TimeBasedFactory.builder();
+		} else {
+			builder = TimeOrderedFactory.builder();
+		}
+
+		if ("lockFree".equals(engine)) {
+			builder.withLockFree();
+		} else if ("striped".equals(engine)) {
+			builder.withStripedClockSeq();
+		} else if ("spill".equals(engine)) {
+			builder.withClockSeqSpill(14);
+		}
+
+		factory = builder.build();
+	}
+
+	@Benchmark
+	public UUID create() {
+		return factory.create();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : new int[] { 1, 2, 4, 8, 16, 32, 64 }) {
+			Options options = new OptionsBuilder() //
+					.include(TimeBasedContention.class.getName()) //
+					.threads(threads) //
+					.build();
+			new Runner(options).run();
+		}
+	}
+}
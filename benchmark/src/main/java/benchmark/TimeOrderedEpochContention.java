@@ -0,0 +1,86 @@
+
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.factory.standard.TimeOrderedEpochFactory;
+
+/**
+ * Compares the locked, the lock-free and the per-thread engines of the UUIDv7
+ * factory.
+ * <p>
+ * All threads share the same factory. Run the {@link #main(String[])} method to
+ * execute it with 1 to 64 threads, or pass the option `-t` to JMH.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimeOrderedEpochContention {
+
+	@Param({ "default", "plus1", "plusN", "counter", "subMilli" })
+	String increment;
+
+	@Param({ "locked", "lockFree", "threadLocal" })
+	String engine;
+
+	TimeOrderedEpochFactory factory;
+
+	@Setup
+	public void setup() {
+
+		TimeOrderedEpochFactory.Builder builder = TimeOrderedEpochFactory.builder();
+
+		if ("plus1".equals(increment)) {
+			builder.withIncrementPlus1();
+		} else if ("plusN".equals(increment)) {
+			builder.withIncrementPlusN();
+		} else if ("counter".equals(increment)) {
+			builder.withCounter(42);
+		} else if ("subMilli".equals(increment)) {
+			builder.withSubMillisecondPrecision();
+		}
+
+		if ("lockFree".equals(engine)) {
+			builder.withLockFree();
+		} else if ("threadLocal".equals(engine)) {
+			builder.withThreadLocalState();
+		}
+
+		factory = builder.build();
+	}
+
+	@Benchmark
+	public UUID create() {
+		return factory.create();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : new int[] { 1, 2, 4, 8, 16, 32, 64 }) {
+			Options options = new OptionsBuilder() //
+					.include(TimeOrderedEpochContention.class.getName()) //
+					.threads(threads) //
+					.build();
+			new Runner(options).run();
+		}
+	}
+}
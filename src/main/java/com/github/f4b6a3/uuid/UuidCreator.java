@@ -24,6 +24,7 @@
 
 package com.github.f4b6a3.uuid;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
@@ -36,6 +37,7 @@ import com.github.f4b6a3.uuid.codec.StandardStringCodec;
 import com.github.f4b6a3.uuid.enums.UuidLocalDomain;
 import com.github.f4b6a3.uuid.enums.UuidNamespace;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.factory.AbstNameBasedFactory;
 import com.github.f4b6a3.uuid.factory.UuidFactory;
 import com.github.f4b6a3.uuid.factory.UuidFactory.Parameters;
 import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactory;
@@ -787,6 +789,98 @@ public final class UuidCreator {
 		return UUID3.create(Parameters.builder().withNamespace(namespace).withName(name).build());
 	}
 
+	/**
+	 * Returns a name-based unique identifier that uses MD5 hashing (UUIDv3).
+	 * <p>
+	 * The character sequence is encoded into UTF-8 as it is hashed, without
+	 * copying it.
+	 * 
+	 * @param name a character sequence
+	 * @return a UUIDv3
+	 * @see NameBasedMd5Factory
+	 */
+	public static UUID getNameBasedMd5(CharSequence name) {
+		return nameBased(UUID3).create(name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses MD5 hashing (UUIDv3).
+	 * <p>
+	 * The bytes between the position and the limit of the buffer are hashed in
+	 * place. The position of the buffer is not changed.
+	 * 
+	 * @param name a byte buffer
+	 * @return a UUIDv3
+	 * @see NameBasedMd5Factory
+	 */
+	public static UUID getNameBasedMd5(ByteBuffer name) {
+		return nameBased(UUID3).create(name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses MD5 hashing (UUIDv3).
+	 * <p>
+	 * The slice of the byte array is hashed in place.
+	 * 
+	 * @param name   a byte array
+	 * @param offset the index of the first byte of the name
+	 * @param length the number of bytes of the name
+	 * @return a UUIDv3
+	 * @see NameBasedMd5Factory
+	 */
+	public static UUID getNameBasedMd5(byte[] name, int offset, int length) {
+		return nameBased(UUID3).create(name, offset, length);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses MD5 hashing (UUIDv3).
+	 * <p>
+	 * The character sequence is encoded into UTF-8 as it is hashed, without
+	 * copying it.
+	 * 
+	 * @param namespace a custom name space UUID
+	 * @param name      a character sequence
+	 * @return a UUIDv3
+	 * @see UuidNamespace
+	 * @see NameBasedMd5Factory
+	 */
+	public static UUID getNameBasedMd5(UUID namespace, CharSequence name) {
+		return nameBased(UUID3).create(namespace, name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses MD5 hashing (UUIDv3).
+	 * <p>
+	 * The bytes between the position and the limit of the buffer are hashed in
+	 * place. The position of the buffer is not changed.
+	 * 
+	 * @param namespace a custom name space UUID
+	 * @param name      a byte buffer
+	 * @return a UUIDv3
+	 * @see UuidNamespace
+	 * @see NameBasedMd5Factory
+	 */
+	public static UUID getNameBasedMd5(UUID namespace, ByteBuffer name) {
+		return nameBased(UUID3).create(namespace, name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses MD5 hashing (UUIDv3).
+	 * <p>
+	 * The slice of the byte array is hashed in place.
+	 * 
+	 * @param namespace a custom name space UUID
+	 * @param name      a byte array
+	 * @param offset    the index of the first byte of the name
+	 * @param length    the number of bytes of the name
+	 * @return a UUIDv3
+	 * @see UuidNamespace
+	 * @see NameBasedMd5Factory
+	 */
+	public static UUID getNameBasedMd5(UUID namespace, byte[] name, int offset, int length) {
+		return nameBased(UUID3).create(namespace, name, offset, length);
+	}
+
 	/**
 	 * Returns a name-based unique identifier that uses SHA-1 hashing (UUIDv5).
 	 * <p>
@@ -913,6 +1007,98 @@ public final class UuidCreator {
 		return UUID5.create(Parameters.builder().withNamespace(namespace).withName(name).build());
 	}
 
+	/**
+	 * Returns a name-based unique identifier that uses SHA-1 hashing (UUIDv5).
+	 * <p>
+	 * The character sequence is encoded into UTF-8 as it is hashed, without
+	 * copying it.
+	 * 
+	 * @param name a character sequence
+	 * @return a UUIDv5
+	 * @see NameBasedSha1Factory
+	 */
+	public static UUID getNameBasedSha1(CharSequence name) {
+		return nameBased(UUID5).create(name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-1 hashing (UUIDv5).
+	 * <p>
+	 * The bytes between the position and the limit of the buffer are hashed in
+	 * place. The position of the buffer is not changed.
+	 * 
+	 * @param name a byte buffer
+	 * @return a UUIDv5
+	 * @see NameBasedSha1Factory
+	 */
+	public static UUID getNameBasedSha1(ByteBuffer name) {
+		return nameBased(UUID5).create(name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-1 hashing (UUIDv5).
+	 * <p>
+	 * The slice of the byte array is hashed in place.
+	 * 
+	 * @param name   a byte array
+	 * @param offset the index of the first byte of the name
+	 * @param length the number of bytes of the name
+	 * @return a UUIDv5
+	 * @see NameBasedSha1Factory
+	 */
+	public static UUID getNameBasedSha1(byte[] name, int offset, int length) {
+		return nameBased(UUID5).create(name, offset, length);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-1 hashing (UUIDv5).
+	 * <p>
+	 * The character sequence is encoded into UTF-8 as it is hashed, without
+	 * copying it.
+	 * 
+	 * @param namespace a custom name space UUID
+	 * @param name      a character sequence
+	 * @return a UUIDv5
+	 * @see UuidNamespace
+	 * @see NameBasedSha1Factory
+	 */
+	public static UUID getNameBasedSha1(UUID namespace, CharSequence name) {
+		return nameBased(UUID5).create(namespace, name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-1 hashing (UUIDv5).
+	 * <p>
+	 * The bytes between the position and the limit of the buffer are hashed in
+	 * place. The position of the buffer is not changed.
+	 * 
+	 * @param namespace a custom name space UUID
+	 * @param name      a byte buffer
+	 * @return a UUIDv5
+	 * @see UuidNamespace
+	 * @see NameBasedSha1Factory
+	 */
+	public static UUID getNameBasedSha1(UUID namespace, ByteBuffer name) {
+		return nameBased(UUID5).create(namespace, name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-1 hashing (UUIDv5).
+	 * <p>
+	 * The slice of the byte array is hashed in place.
+	 * 
+	 * @param namespace a custom name space UUID
+	 * @param name      a byte array
+	 * @param offset    the index of the first byte of the name
+	 * @param length    the number of bytes of the name
+	 * @return a UUIDv5
+	 * @see UuidNamespace
+	 * @see NameBasedSha1Factory
+	 */
+	public static UUID getNameBasedSha1(UUID namespace, byte[] name, int offset, int length) {
+		return nameBased(UUID5).create(namespace, name, offset, length);
+	}
+
 	/**
 	 * Returns a DCE Security unique identifier (UUIDv2).
 	 * 
@@ -1208,6 +1394,10 @@ public final class UuidCreator {
 		return COMB_SHORT_SUFFIX.create();
 	}
 
+	private static AbstNameBasedFactory nameBased(Proxy proxy) {
+		return (AbstNameBasedFactory) proxy.get();
+	}
+
 	// ***************************************
 	// Lazy holders
 	// ***************************************
@@ -30,11 +30,17 @@ import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.function.EpochTimeFunction;
+import com.github.f4b6a3.uuid.factory.function.impl.TickingClock;
 
 /**
  * Abstract Factory for creating COMB GUIDs.
  * <p>
  * COMB GUIDs combine a creation time and random bytes.
+ * <p>
+ * The creation time is read from an {@link EpochTimeFunction}, which returns
+ * the milliseconds as a primitive number. Clocks and instant functions are
+ * adapted to it.
  */
 public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 
@@ -43,6 +49,11 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 	 */
 	protected Supplier<Instant> instantFunction;
 
+	/**
+	 * The epoch time function.
+	 */
+	protected EpochTimeFunction epochTimeFunction;
+
 	/**
 	 * Constructor whith a version number and a builder.
 	 * 
@@ -52,6 +63,7 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 	protected AbstCombFactory(UuidVersion version, Builder<?, ?> builder) {
 		super(version, builder);
 		this.instantFunction = builder.getInstantFunction();
+		this.epochTimeFunction = builder.getEpochTimeFunction();
 	}
 
 	/**
@@ -68,6 +80,11 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 		 */
 		protected Supplier<Instant> instantFunction;
 
+		/**
+		 * The epoch time function.
+		 */
+		protected EpochTimeFunction epochTimeFunction;
+
 		/**
 		 * Get the instant function.
 		 * 
@@ -75,13 +92,32 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 		 */
 		protected Supplier<Instant> getInstantFunction() {
 			if (this.instantFunction == null) {
-				this.instantFunction = () -> Instant.now();
+				final EpochTimeFunction function = getEpochTimeFunction();
+				this.instantFunction = () -> EpochTimeFunction.toInstant(function.getAsLong());
 			}
 			return this.instantFunction;
 		}
 
+		/**
+		 * Get the epoch time function.
+		 * 
+		 * @return a function
+		 */
+		protected EpochTimeFunction getEpochTimeFunction() {
+			if (this.epochTimeFunction == null) {
+				if (this.instantFunction != null) {
+					this.epochTimeFunction = EpochTimeFunction.ofInstant(this.instantFunction);
+				} else {
+					this.epochTimeFunction = () -> System.currentTimeMillis() << 12;
+				}
+			}
+			return this.epochTimeFunction;
+		}
+
 		/**
 		 * Set the clock.
+		 * <p>
+		 * A {@link TickingClock} is read without creating instants.
 		 * 
 		 * @param clock a clock
 		 * @return the builder
@@ -90,6 +126,11 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 		public B withClock(Clock clock) {
 			if (clock != null) {
 				this.instantFunction = () -> clock.instant();
+				if (clock instanceof TickingClock) {
+					this.epochTimeFunction = ((TickingClock) clock).asEpochTimeFunction();
+				} else {
+					this.epochTimeFunction = EpochTimeFunction.ofClock(clock);
+				}
 			}
 			return (B) this;
 		}
@@ -104,7 +145,8 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 		 */
 		@SuppressWarnings("unchecked")
 		public B withTimeFunction(LongSupplier timeFunction) {
-			this.instantFunction = () -> Instant.ofEpochMilli(timeFunction.getAsLong());
+			this.instantFunction = null;
+			this.epochTimeFunction = EpochTimeFunction.ofMillis(timeFunction);
 			return (B) this;
 		}
 
@@ -117,7 +159,241 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 		@SuppressWarnings("unchecked")
 		public B withInstantFunction(Supplier<Instant> instantFunction) {
 			this.instantFunction = instantFunction;
+			this.epochTimeFunction = null;
+			return (B) this;
+		}
+
+		/**
+		 * Set the epoch time function.
+		 * 
+		 * The time is the number of milliseconds since 1970-01-01T00:00:00Z shifted
+		 * left by 12 bits, with the fraction of the millisecond in the lower 12 bits.
+		 * 
+		 * @param epochTimeFunction a function
+		 * @return the builder
+		 * @see EpochTimeFunction
+		 */
+		@SuppressWarnings("unchecked")
+		public B withEpochTimeFunction(EpochTimeFunction epochTimeFunction) {
+			this.instantFunction = null;
+			this.epochTimeFunction = epochTimeFunction;
+			return (B) this;
+		}
+	}
+
+	/**
+	 * Returns the monotonic function of a builder, if an increment type is set.
+	 * 
+	 * @param builder     a builder
+	 * @param prefixBytes the prefix length in bytes
+	 * @param advanceMax  the max number of prefixes the state can go ahead of
+	 *                    the clock
+	 * @return a function or null
+	 */
+	protected MonotonicFunction getMonotonicFunction(MonotonicBuilder<?, ?> builder, int prefixBytes,
+			long advanceMax) {
+		return builder.getMonotonicFunction(this.random, prefixBytes, advanceMax);
+	}
+
+	/**
+	 * Abstract builder for creating prefix COMB factories with an optional
+	 * monotonic mode.
+	 * 
+	 * @param <T> the factory type
+	 * @param <B> the builder type
+	 * @see MonotonicFunction
+	 */
+	public abstract static class MonotonicBuilder<T, B extends MonotonicBuilder<T, B>> extends Builder<T, B> {
+
+		/**
+		 * The max increment, null if not monotonic.
+		 */
+		protected Long incrementMax;
+
+		/**
+		 * Set the increment type to PLUS 1.
+		 * <p>
+		 * Within the same prefix, the random bits are incremented by 1, so that the
+		 * GUIDs are created in ascending order.
+		 * 
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withIncrementPlus1() {
+			this.incrementMax = 1L;
+			return (B) this;
+		}
+
+		/**
+		 * Set the increment type to PLUS N.
+		 * <p>
+		 * Within the same prefix, the random bits are incremented by a random number
+		 * between 1 and 2^32, so that the GUIDs are created in ascending order and
+		 * are harder to guess.
+		 * 
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withIncrementPlusN() {
+			this.incrementMax = MonotonicFunction.INCREMENT_MAX_DEFAULT;
+			return (B) this;
+		}
+
+		/**
+		 * Set the increment type to PLUS N and set the max increment.
+		 * 
+		 * @param incrementMax a number greater than zero
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withIncrementPlusN(long incrementMax) {
+			this.incrementMax = incrementMax;
 			return (B) this;
 		}
+
+		/**
+		 * Get the monotonic function, if an increment type is set.
+		 * 
+		 * @param random      a random generator
+		 * @param prefixBytes the prefix length in bytes
+		 * @param advanceMax  the max number of prefixes the state can go ahead of
+		 *                    the clock
+		 * @return a function or null
+		 */
+		protected MonotonicFunction getMonotonicFunction(IRandom random, int prefixBytes, long advanceMax) {
+			if (this.incrementMax == null) {
+				return null;
+			}
+			return new MonotonicFunction(random, prefixBytes, this.incrementMax, advanceMax);
+		}
+	}
+
+	/**
+	 * Monotonic state of prefix COMB GUIDs.
+	 * <p>
+	 * Within the same prefix, the random bits are incremented instead of drawn
+	 * again, so that the GUIDs of the same tick are created in ascending order
+	 * and appended at the end of an index. If the clock advances past the prefix
+	 * of the state, the random bits are drawn again.
+	 * <p>
+	 * The random bits are incremented like the PLUS 1 and PLUS N types of
+	 * UUIDv7. If they overflow, the carry goes into the prefix. If the clock goes
+	 * back, or is behind the carried prefix, the state keeps being incremented, as
+	 * long as it is not too far ahead of the clock. Prefixes are compared modulo
+	 * their length, so a short prefix can wrap around.
+	 * <p>
+	 * It is not synchronized. The caller is in charge of synchronization.
+	 */
+	protected static final class MonotonicFunction {
+
+		private boolean started = false;
+		private long msb = 0L; // most significant bits
+		private long lsb = 0L; // least significant bits
+
+		private final IRandom random;
+		private final int randomBytes; // random bytes after the prefix
+		private final LongSupplier increment;
+
+		private final int prefixShift; // the position of the prefix in `msb`
+		private final long prefixMask;
+		private final long advanceMax; // in prefixes
+
+		private static final long versionBits = 0x000000000000f000L;
+		private static final long variantBits = 0xc000000000000000L;
+
+		/**
+		 * The default max increment of PLUS N.
+		 */
+		public static final long INCREMENT_MAX_DEFAULT = 0xffffffffL; // 2^32-1
+
+		/**
+		 * Constructor with a random, the prefix length, the max increment and the
+		 * max advance.
+		 * 
+		 * @param random       a random generator
+		 * @param prefixBytes  the prefix length in bytes, from 1 to 6
+		 * @param incrementMax the max increment, 1 for PLUS 1
+		 * @param advanceMax   the max number of prefixes the state can go ahead of
+		 *                     the clock before it is drawn again
+		 * @throws IllegalArgumentException if the max increment or the max advance
+		 *                                  is less than 1
+		 */
+		public MonotonicFunction(IRandom random, int prefixBytes, long incrementMax, long advanceMax) {
+
+			if (incrementMax < 1) {
+				throw new IllegalArgumentException(String.format("Invalid max increment: %d", incrementMax));
+			}
+			if (advanceMax < 1) {
+				throw new IllegalArgumentException(String.format("Invalid max advance: %d", advanceMax));
+			}
+
+			this.random = random;
+			this.randomBytes = Long.BYTES - prefixBytes;
+			this.prefixShift = this.randomBytes * Byte.SIZE;
+			this.prefixMask = -1L >>> this.prefixShift;
+			this.advanceMax = advanceMax;
+
+			if (incrementMax == 1L) {
+				this.increment = () -> 1L;
+			} else if (incrementMax == INCREMENT_MAX_DEFAULT) {
+				// return n, where 1 <= n <= 2^32
+				this.increment = () -> random.nextLong(Integer.BYTES) + 1L;
+			} else {
+				// return n, where 1 <= n <= incrementMax
+				this.increment = () -> ((random.nextLong() & 0x7fffffffffffffffL) % incrementMax) + 1L;
+			}
+		}
+
+		/**
+		 * Advance the state for the current prefix.
+		 * 
+		 * @param prefix the current prefix
+		 */
+		public void next(final long prefix) {
+
+			// how many prefixes the state is ahead of the clock
+			final long ahead = ((this.msb >>> prefixShift) - prefix) & prefixMask;
+
+			if (this.started && ahead <= advanceMax) {
+				increment(); // the same prefix, or the clock is behind
+			} else {
+				reset(prefix); // the clock advanced or went back too much
+			}
+		}
+
+		private void reset(final long prefix) {
+			this.started = true;
+			this.msb = (prefix << prefixShift) | random.nextLong(randomBytes);
+			this.lsb = random.nextLong(Long.BYTES);
+		}
+
+		private void increment() {
+
+			final long before = this.lsb | variantBits;
+			this.lsb = before + increment.getAsLong();
+
+			if (Long.compareUnsigned(this.lsb, before) < 0) {
+				// add 1 to the most significant bits if overflow occurs
+				this.msb = (this.msb | versionBits) + 1L;
+			}
+		}
+
+		/**
+		 * Returns the most significant bits of the current state.
+		 * 
+		 * @return a number
+		 */
+		public long getMostSignificantBits() {
+			return this.msb;
+		}
+
+		/**
+		 * Returns the least significant bits of the current state.
+		 * 
+		 * @return a number
+		 */
+		public long getLeastSignificantBits() {
+			return this.lsb;
+		}
 	}
 }
@@ -24,10 +24,21 @@
 
 package com.github.f4b6a3.uuid.factory;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
 
 import com.github.f4b6a3.uuid.enums.UuidNamespace;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
@@ -67,6 +78,29 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 	 */
 	protected static final String ALGORITHM_SHA1 = "SHA-1";
 
+	/**
+	 * The message digests cached for each thread.
+	 */
+	private final ThreadLocal<MessageDigest> digests;
+
+	private static final ThreadLocal<MessageDigest> MD5_DIGESTS = newDigests(ALGORITHM_MD5);
+	private static final ThreadLocal<MessageDigest> SHA1_DIGESTS = newDigests(ALGORITHM_SHA1);
+
+	/**
+	 * The buffers used to encode character sequences, one for each thread.
+	 */
+	private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[512]);
+
+	/**
+	 * The number of names hashed by each task of the bulk methods.
+	 */
+	private static final int BULK_THRESHOLD = 1024;
+
+	/**
+	 * The cache of UUIDs (optional).
+	 */
+	private final Cache cache; // can be null
+
 	/**
 	 * Protected constructor that receives the message digest algorithm and an
 	 * optional name space.
@@ -76,14 +110,35 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 	 * @param namespace a name space byte array (null or 16 bytes)
 	 */
 	protected AbstNameBasedFactory(UuidVersion version, String algorithm, byte[] namespace) {
+		this(version, algorithm, namespace, 0, 0);
+	}
+
+	/**
+	 * Protected constructor that receives the message digest algorithm and a
+	 * builder.
+	 * 
+	 * @param version   the version number (3 or 5)
+	 * @param algorithm a message digest algorithm (MD5 or SHA-1)
+	 * @param builder   a builder
+	 */
+	protected AbstNameBasedFactory(UuidVersion version, String algorithm, Builder<?, ?> builder) {
+		this(version, algorithm, builder.getNamespace(), builder.getCacheSize(), builder.getCacheBytes());
+	}
+
+	private AbstNameBasedFactory(UuidVersion version, String algorithm, byte[] namespace, int cacheSize,
+			long cacheBytes) {
 		super(version);
 
 		if (!VERSION_NAME_BASED_MD5.equals(version) && !VERSION_NAME_BASED_SHA1.equals(version)) {
 			throw new IllegalArgumentException("Invalid UUID version");
 		}
 
-		if (ALGORITHM_MD5.equals(algorithm) || ALGORITHM_SHA1.equals(algorithm)) {
+		if (ALGORITHM_MD5.equals(algorithm)) {
+			this.algorithm = algorithm;
+			this.digests = MD5_DIGESTS;
+		} else if (ALGORITHM_SHA1.equals(algorithm)) {
 			this.algorithm = algorithm;
+			this.digests = SHA1_DIGESTS;
 		} else {
 			throw new IllegalArgumentException("Invalid message digest algorithm");
 		}
@@ -96,6 +151,30 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 				throw new IllegalArgumentException("Invalid namespace");
 			}
 		}
+
+		this.cache = cacheSize > 0 ? new Cache(cacheSize, cacheBytes) : null;
+	}
+
+	/**
+	 * Returns the number of UUIDs found in the cache.
+	 * <p>
+	 * It returns zero if the factory has no cache.
+	 * 
+	 * @return the number of cache hits
+	 */
+	public long getCacheHits() {
+		return cache != null ? cache.hits.sum() : 0;
+	}
+
+	/**
+	 * Returns the number of UUIDs not found in the cache.
+	 * <p>
+	 * It returns zero if the factory has no cache.
+	 * 
+	 * @return the number of cache misses
+	 */
+	public long getCacheMisses() {
+		return cache != null ? cache.misses.sum() : 0;
 	}
 
 	/**
@@ -119,7 +198,7 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 	 * @throws NullPointerException if name is null
 	 */
 	public UUID create(final String name) {
-		return create(this.namespace, nameBytes(name));
+		return create(this.namespace, name);
 	}
 
 	/**
@@ -145,7 +224,7 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 	 * @throws NullPointerException if name is null
 	 */
 	public UUID create(final UUID namespace, final String name) {
-		return create(namespaceBytes(namespace), nameBytes(name));
+		return create(namespaceBytes(namespace), name);
 	}
 
 	/**
@@ -175,7 +254,7 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 	 * @see InvalidUuidException
 	 */
 	public UUID create(final String namespace, final String name) {
-		return create(namespaceBytes(namespace), nameBytes(name));
+		return create(namespaceBytes(namespace), name);
 	}
 
 	/**
@@ -201,7 +280,216 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 	 * @throws NullPointerException if name is null
 	 */
 	public UUID create(final UuidNamespace namespace, final String name) {
-		return create(namespaceBytes(namespace), nameBytes(name));
+		return create(namespaceBytes(namespace), name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * <p>
+	 * The character sequence is encoded into UTF-8 as it is hashed, so no copy
+	 * of the name is made. Unpaired surrogates are encoded as '?', the same as
+	 * {@link String#getBytes(java.nio.charset.Charset)}.
+	 * 
+	 * @param name a character sequence
+	 * @return a name-based UUID
+	 * @throws NullPointerException if name is null
+	 */
+	public UUID create(final CharSequence name) {
+		return create(this.namespace, name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * <p>
+	 * The bytes between the position and the limit of the buffer are hashed in
+	 * place. The position of the buffer is not changed.
+	 * 
+	 * @param name a byte buffer
+	 * @return a name-based UUID
+	 * @throws NullPointerException if name is null
+	 */
+	public UUID create(final ByteBuffer name) {
+		return create(this.namespace, name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * <p>
+	 * The slice of the byte array is hashed in place.
+	 * 
+	 * @param name   a byte array
+	 * @param offset the index of the first byte of the name
+	 * @param length the number of bytes of the name
+	 * @return a name-based UUID
+	 * @throws NullPointerException      if name is null
+	 * @throws IndexOutOfBoundsException if the slice is out of bounds
+	 */
+	public UUID create(final byte[] name, final int offset, final int length) {
+		return create(this.namespace, name, offset, length);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * <p>
+	 * The character sequence is encoded into UTF-8 as it is hashed.
+	 * 
+	 * @param namespace a name space UUID
+	 * @param name      a character sequence
+	 * @return a name-based UUID
+	 * @throws NullPointerException if name is null
+	 */
+	public UUID create(final UUID namespace, final CharSequence name) {
+		return create(namespaceBytes(namespace), name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * <p>
+	 * The position of the buffer is not changed.
+	 * 
+	 * @param namespace a name space UUID
+	 * @param name      a byte buffer
+	 * @return a name-based UUID
+	 * @throws NullPointerException if name is null
+	 */
+	public UUID create(final UUID namespace, final ByteBuffer name) {
+		return create(namespaceBytes(namespace), name);
+	}
+
+	/**
+	 * Returns a name-based UUID.
+	 * 
+	 * @param namespace a name space UUID
+	 * @param name      a byte array
+	 * @param offset    the index of the first byte of the name
+	 * @param length    the number of bytes of the name
+	 * @return a name-based UUID
+	 * @throws NullPointerException      if name is null
+	 * @throws IndexOutOfBoundsException if the slice is out of bounds
+	 */
+	public UUID create(final UUID namespace, final byte[] name, final int offset, final int length) {
+		return create(namespaceBytes(namespace), name, offset, length);
+	}
+
+	/**
+	 * Returns a list of name-based UUIDs, in the same order of the names.
+	 * <p>
+	 * The names are hashed in parallel using the common fork-join pool.
+	 * 
+	 * @param names a list of strings
+	 * @return a fixed-size list of name-based UUIDs
+	 * @throws NullPointerException if a name is null
+	 * @see #createAll(String[], ForkJoinPool)
+	 */
+	public List<UUID> createAll(final List<String> names) {
+		return createAll(names, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a list of name-based UUIDs, in the same order of the names.
+	 * 
+	 * @param names a list of strings
+	 * @param pool  a fork-join pool
+	 * @return a fixed-size list of name-based UUIDs
+	 * @throws NullPointerException if a name is null
+	 * @see #createAll(String[], ForkJoinPool)
+	 */
+	public List<UUID> createAll(final List<String> names, final ForkJoinPool pool) {
+		return Arrays.asList(createAll(names.toArray(new String[0]), pool));
+	}
+
+	/**
+	 * Returns a list of name-based UUIDs, in the same order of the names.
+	 * <p>
+	 * The stream is collected into an array first. Then the names are hashed in
+	 * parallel using the common fork-join pool.
+	 * 
+	 * @param names a stream of byte arrays
+	 * @return a fixed-size list of name-based UUIDs
+	 * @throws NullPointerException if a name is null
+	 * @see #createAll(byte[][], ForkJoinPool)
+	 */
+	public List<UUID> createAll(final Stream<byte[]> names) {
+		return createAll(names, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a list of name-based UUIDs, in the same order of the names.
+	 * <p>
+	 * The stream is collected into an array first.
+	 * 
+	 * @param names a stream of byte arrays
+	 * @param pool  a fork-join pool
+	 * @return a fixed-size list of name-based UUIDs
+	 * @throws NullPointerException if a name is null
+	 * @see #createAll(byte[][], ForkJoinPool)
+	 */
+	public List<UUID> createAll(final Stream<byte[]> names, final ForkJoinPool pool) {
+		return Arrays.asList(createAll(names.toArray(byte[][]::new), pool));
+	}
+
+	/**
+	 * Returns an array of name-based UUIDs, in the same order of the names.
+	 * <p>
+	 * The names are hashed in parallel using the common fork-join pool.
+	 * 
+	 * @param names an array of strings
+	 * @return an array of name-based UUIDs
+	 * @throws NullPointerException if a name is null
+	 * @see #createAll(String[], ForkJoinPool)
+	 */
+	public UUID[] createAll(final String[] names) {
+		return createAll(names, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns an array of name-based UUIDs, in the same order of the names.
+	 * <p>
+	 * The array is split into chunks that are hashed in parallel by the
+	 * fork-join pool. Each worker thread reuses its own message digest. The
+	 * result is the same as calling {@link #create(String)} for each name.
+	 * 
+	 * @param names an array of strings
+	 * @param pool  a fork-join pool
+	 * @return an array of name-based UUIDs
+	 * @throws NullPointerException if a name is null
+	 */
+	public UUID[] createAll(final String[] names, final ForkJoinPool pool) {
+		final UUID[] uuids = new UUID[names.length];
+		pool.invoke(new BulkTask(i -> uuids[i] = create(this.namespace, names[i]), 0, names.length));
+		return uuids;
+	}
+
+	/**
+	 * Returns an array of name-based UUIDs, in the same order of the names.
+	 * <p>
+	 * The names are hashed in parallel using the common fork-join pool.
+	 * 
+	 * @param names an array of byte arrays
+	 * @return an array of name-based UUIDs
+	 * @throws NullPointerException if a name is null
+	 * @see #createAll(byte[][], ForkJoinPool)
+	 */
+	public UUID[] createAll(final byte[][] names) {
+		return createAll(names, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns an array of name-based UUIDs, in the same order of the names.
+	 * <p>
+	 * The array is split into chunks that are hashed in parallel by the
+	 * fork-join pool. Each worker thread reuses its own message digest. The
+	 * result is the same as calling {@link #create(byte[])} for each name.
+	 * 
+	 * @param names an array of byte arrays
+	 * @param pool  a fork-join pool
+	 * @return an array of name-based UUIDs
+	 * @throws NullPointerException if a name is null
+	 */
+	public UUID[] createAll(final byte[][] names, final ForkJoinPool pool) {
+		final UUID[] uuids = new UUID[names.length];
+		pool.invoke(new BulkTask(i -> uuids[i] = create(this.namespace, names[i]), 0, names.length));
+		return uuids;
 	}
 
 	@Override
@@ -218,24 +506,521 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 
 		Objects.requireNonNull(name, "Null name");
 
-		MessageDigest hasher;
+		if (cache == null) {
+			return hash(namespace, name);
+		}
+
+		final Key key = new Key(namespace, name);
+		UUID uuid = cache.get(key);
+		if (uuid == null) {
+			uuid = hash(namespace, name);
+			cache.put(key.copy(this.namespace), uuid);
+		}
+		return uuid;
+	}
+
+	private UUID create(final byte[] namespace, final String name) {
+
+		Objects.requireNonNull(name, "Null name");
+
+		if (cache == null) {
+			return hash(namespace, name.getBytes(StandardCharsets.UTF_8));
+		}
 
-		try {
-			hasher = MessageDigest.getInstance(this.algorithm);
-		} catch (NoSuchAlgorithmException e) {
-			throw new IllegalArgumentException(e.getMessage());
+		final Key key = new Key(namespace, name);
+		UUID uuid = cache.get(key);
+		if (uuid == null) {
+			uuid = hash(namespace, name.getBytes(StandardCharsets.UTF_8));
+			cache.put(key.copy(this.namespace), uuid);
 		}
+		return uuid;
+	}
+
+	private UUID hash(final byte[] namespace, final byte[] name) {
+		// Compute the hash of the name
+		return toUuid(hasher(namespace).digest(name));
+	}
+
+	private UUID create(final byte[] namespace, final CharSequence name) {
+
+		Objects.requireNonNull(name, "Null name");
+
+		final MessageDigest hasher = hasher(namespace);
+		update(hasher, name);
+		return toUuid(hasher.digest());
+	}
+
+	private UUID create(final byte[] namespace, final ByteBuffer name) {
+
+		Objects.requireNonNull(name, "Null name");
+
+		final MessageDigest hasher = hasher(namespace);
+		final int position = name.position();
+		hasher.update(name); // moves the position to the limit
+		name.position(position);
+		return toUuid(hasher.digest());
+	}
+
+	private UUID create(final byte[] namespace, final byte[] name, final int offset, final int length) {
+
+		Objects.requireNonNull(name, "Null name");
+		checkBounds(name.length, offset, length);
+
+		final MessageDigest hasher = hasher(namespace);
+		hasher.update(name, offset, length);
+		return toUuid(hasher.digest());
+	}
+
+	/**
+	 * Returns the message digest of the current thread, reset and updated with
+	 * the name space, if any.
+	 */
+	private MessageDigest hasher(final byte[] namespace) {
+
+		// reuse the message digest of the current thread
+		final MessageDigest hasher = this.digests.get();
+		hasher.reset();
 
 		if (namespace != null) {
 			// Prepend the name space
 			hasher.update(namespace);
 		}
 
-		// Compute the hash of the name
-		final byte[] hash = hasher.digest(name);
+		return hasher;
+	}
 
+	private UUID toUuid(final byte[] hash) {
 		final long msb = ByteUtil.toNumber(hash, 0, 8);
 		final long lsb = ByteUtil.toNumber(hash, 8, 16);
 		return toUuid(msb, lsb);
 	}
+
+	/**
+	 * Encodes a character sequence into UTF-8 and updates the message digest.
+	 * <p>
+	 * The bytes are written to a small buffer of the current thread, which is
+	 * flushed into the message digest whenever it gets full.
+	 * 
+	 * @param hasher a message digest
+	 * @param name   a character sequence
+	 */
+	private static void update(final MessageDigest hasher, final CharSequence name) {
+
+		final byte[] buffer = BUFFERS.get();
+		final int limit = buffer.length - 4; // room for a 4 bytes code point
+		final int length = name.length();
+
+		int p = 0;
+		for (int i = 0; i < length; i++) {
+
+			if (p > limit) {
+				hasher.update(buffer, 0, p);
+				p = 0;
+			}
+
+			final char c = name.charAt(i);
+			if (c < 0x80) {
+				buffer[p++] = (byte) c;
+			} else if (c < 0x800) {
+				buffer[p++] = (byte) (0xc0 | (c >>> 6));
+				buffer[p++] = (byte) (0x80 | (c & 0x3f));
+			} else if (Character.isSurrogate(c)) {
+				if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(name.charAt(i + 1))) {
+					final int cp = Character.toCodePoint(c, name.charAt(++i));
+					buffer[p++] = (byte) (0xf0 | (cp >>> 18));
+					buffer[p++] = (byte) (0x80 | ((cp >>> 12) & 0x3f));
+					buffer[p++] = (byte) (0x80 | ((cp >>> 6) & 0x3f));
+					buffer[p++] = (byte) (0x80 | (cp & 0x3f));
+				} else {
+					buffer[p++] = '?'; // unpaired surrogate
+				}
+			} else {
+				buffer[p++] = (byte) (0xe0 | (c >>> 12));
+				buffer[p++] = (byte) (0x80 | ((c >>> 6) & 0x3f));
+				buffer[p++] = (byte) (0x80 | (c & 0x3f));
+			}
+		}
+
+		hasher.update(buffer, 0, p);
+	}
+
+	/**
+	 * Returns a thread local that creates message digests on demand.
+	 * <p>
+	 * Creating a message digest requires a provider lookup, so each thread keeps
+	 * its own instance. The instance is reset after each digest.
+	 * 
+	 * @param algorithm a message digest algorithm
+	 * @return a thread local
+	 */
+	private static ThreadLocal<MessageDigest> newDigests(final String algorithm) {
+		return ThreadLocal.withInitial(() -> {
+			try {
+				return MessageDigest.getInstance(algorithm);
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalArgumentException(e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * Abstract builder for creating a name-based factory.
+	 *
+	 * @param <T> factory type
+	 * @param <B> builder type
+	 */
+	public abstract static class Builder<T, B extends Builder<T, B>> {
+
+		/**
+		 * The name space.
+		 */
+		protected byte[] namespace;
+		/**
+		 * The maximum number of cached UUIDs.
+		 */
+		protected int cacheSize;
+		/**
+		 * The maximum estimated memory used by the cache, in bytes.
+		 */
+		protected long cacheBytes;
+
+		/**
+		 * Get the name space.
+		 * 
+		 * @return a name space byte array
+		 */
+		protected byte[] getNamespace() {
+			return this.namespace;
+		}
+
+		/**
+		 * Get the maximum number of cached UUIDs.
+		 * 
+		 * @return a number of UUIDs
+		 */
+		protected int getCacheSize() {
+			return this.cacheSize;
+		}
+
+		/**
+		 * Get the maximum estimated memory used by the cache.
+		 * <p>
+		 * The default is 256 bytes per cached UUID.
+		 * 
+		 * @return a number of bytes
+		 */
+		protected long getCacheBytes() {
+			if (this.cacheBytes == 0) {
+				this.cacheBytes = this.cacheSize * Cache.DEFAULT_ENTRY_BYTES;
+			}
+			return this.cacheBytes;
+		}
+
+		/**
+		 * Set the name space UUID.
+		 * 
+		 * @param namespace a name space
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withNamespace(UUID namespace) {
+			this.namespace = namespaceBytes(namespace);
+			return (B) this;
+		}
+
+		/**
+		 * Set the name space string.
+		 * 
+		 * @param namespace a name space
+		 * @return the builder
+		 * @throws InvalidUuidException if the name space is invalid
+		 */
+		@SuppressWarnings("unchecked")
+		public B withNamespace(String namespace) {
+			this.namespace = namespaceBytes(namespace);
+			return (B) this;
+		}
+
+		/**
+		 * Set the name space enumeration.
+		 * 
+		 * @param namespace a name space
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withNamespace(UuidNamespace namespace) {
+			this.namespace = namespaceBytes(namespace);
+			return (B) this;
+		}
+
+		/**
+		 * Set a cache of UUIDs.
+		 * <p>
+		 * The cache keeps the most recently used UUIDs, up to the maximum number
+		 * of entries, so that repeated names are not hashed again. It is keyed by
+		 * name space and name, and it is used by the methods that receive a
+		 * {@link String} or a byte array name. The other methods read their
+		 * input in place and always compute the hash.
+		 * <p>
+		 * The memory of the cache is capped at an estimate of 256 bytes per
+		 * entry, so long names take the room of more than one entry. Use
+		 * {@link #withCache(int, long)} to set a different memory cap.
+		 * 
+		 * @param maxEntries the maximum number of cached UUIDs
+		 * @return the builder
+		 * @throws IllegalArgumentException if the number is not positive
+		 */
+		public B withCache(int maxEntries) {
+			return withCache(maxEntries, maxEntries * Cache.DEFAULT_ENTRY_BYTES);
+		}
+
+		/**
+		 * Set a cache of UUIDs with a memory cap.
+		 * <p>
+		 * The memory used by each entry is estimated from the length of its name
+		 * and name space, plus a fixed overhead. The least recently used entries
+		 * are evicted until the new entry fits in the cap. A name too long to fit
+		 * is never cached.
+		 * 
+		 * @param maxEntries the maximum number of cached UUIDs
+		 * @param maxBytes   the maximum estimated memory used by the cache
+		 * @return the builder
+		 * @throws IllegalArgumentException if any number is not positive
+		 * @see #withCache(int)
+		 */
+		@SuppressWarnings("unchecked")
+		public B withCache(int maxEntries, long maxBytes) {
+			if (maxEntries <= 0) {
+				throw new IllegalArgumentException("Invalid cache size: " + maxEntries);
+			}
+			if (maxBytes <= 0) {
+				throw new IllegalArgumentException("Invalid cache bytes: " + maxBytes);
+			}
+			this.cacheSize = maxEntries;
+			this.cacheBytes = maxBytes;
+			return (B) this;
+		}
+
+		/**
+		 * Finishes the factory building.
+		 * 
+		 * @return the build factory
+		 */
+		public abstract T build();
+	}
+
+	/**
+	 * A task that splits a range of indexes until it is small enough to be
+	 * processed by a single worker.
+	 */
+	private static final class BulkTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient IntConsumer action;
+		private final int from;
+		private final int to;
+
+		private BulkTask(IntConsumer action, int from, int to) {
+			this.action = action;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= BULK_THRESHOLD) {
+				for (int i = from; i < to; i++) {
+					action.accept(i);
+				}
+				return;
+			}
+			final int middle = (from + to) >>> 1;
+			invokeAll(new BulkTask(action, from, middle), new BulkTask(action, middle, to));
+		}
+	}
+
+	/**
+	 * A bounded cache of UUIDs with CLOCK eviction.
+	 * <p>
+	 * Reads are lock-free: a hit only marks the entry as referenced. Inserts
+	 * take a lock and sweep the clock hand, clearing the referenced entries and
+	 * evicting the ones that were not used since the last sweep, until there is
+	 * a free slot and the estimated memory of the new entry fits in the cap. If
+	 * another thread is inserting, the new entry is just dropped, so threads
+	 * never wait for each other.
+	 */
+	private static final class Cache {
+
+		/**
+		 * The default memory cap per entry, in bytes.
+		 */
+		private static final long DEFAULT_ENTRY_BYTES = 256;
+
+		/**
+		 * The estimated memory of an entry without its arrays: the map node, the
+		 * entry, the key and the UUID.
+		 */
+		private static final int OVERHEAD_BYTES = 128;
+
+		private final ConcurrentHashMap<Key, Entry> map;
+		private final Entry[] clock; // guarded by lock
+		private int hand; // guarded by lock
+
+		private final long maxBytes;
+		private long bytes; // guarded by lock
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		private Cache(int maxEntries, long maxBytes) {
+			this.map = new ConcurrentHashMap<>(maxEntries);
+			this.clock = new Entry[maxEntries];
+			this.maxBytes = maxBytes;
+		}
+
+		private UUID get(final Key key) {
+			final Entry entry = map.get(key);
+			if (entry == null) {
+				misses.increment();
+				return null;
+			}
+			if (!entry.referenced) {
+				entry.referenced = true;
+			}
+			hits.increment();
+			return entry.uuid;
+		}
+
+		private void put(final Key key, final UUID uuid) {
+
+			final long weight = OVERHEAD_BYTES + key.bytes();
+			if (weight > maxBytes) {
+				return; // it would never fit
+			}
+
+			if (!lock.tryLock()) {
+				return; // another thread is inserting
+			}
+
+			try {
+				if (map.containsKey(key)) {
+					return;
+				}
+
+				// evict the entries not used since the last sweep until the new
+				// one fits; after a full sweep, the referenced ones are evicted too
+				int swept = 0;
+				for (;;) {
+					final Entry victim = clock[hand];
+					if (victim == null) {
+						if (bytes + weight <= maxBytes) {
+							break;
+						}
+					} else if (victim.referenced && swept++ < clock.length) {
+						victim.referenced = false;
+					} else {
+						map.remove(victim.key);
+						bytes -= victim.weight;
+						clock[hand] = null;
+						if (bytes + weight <= maxBytes) {
+							break;
+						}
+					}
+					hand = (hand + 1) % clock.length;
+				}
+
+				final Entry entry = new Entry(key, uuid, weight);
+				clock[hand] = entry;
+				map.put(key, entry);
+				bytes += weight;
+				hand = (hand + 1) % clock.length;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private static final class Entry {
+
+			private final Key key;
+			private final UUID uuid;
+			private final long weight;
+			private volatile boolean referenced;
+
+			private Entry(Key key, UUID uuid, long weight) {
+				this.key = key;
+				this.uuid = uuid;
+				this.weight = weight;
+			}
+		}
+	}
+
+	/**
+	 * A cache key made of a name space and a name.
+	 * <p>
+	 * The name is either a string or a byte array. The same name in both forms
+	 * results in two keys with the same UUID.
+	 */
+	private static final class Key {
+
+		private final byte[] namespace; // can be null
+		private final Object name; // string or byte array
+		private final int hash;
+
+		private Key(final byte[] namespace, final Object name) {
+			this.namespace = namespace;
+			this.name = name;
+			final int h = name instanceof String ? name.hashCode() : Arrays.hashCode((byte[]) name);
+			this.hash = 31 * Arrays.hashCode(namespace) + h;
+		}
+
+		/**
+		 * Returns a key that does not share arrays with the caller.
+		 * 
+		 * @param shared a name space array that is never modified
+		 * @return a key
+		 */
+		private Key copy(final byte[] shared) {
+			final byte[] ns = namespace == null || namespace == shared ? namespace : namespace.clone();
+			final Object n = name instanceof String ? name : ((byte[]) name).clone();
+			return new Key(ns, n);
+		}
+
+		/**
+		 * Returns the estimated memory of the name and the name space.
+		 * 
+		 * @return a number of bytes
+		 */
+		private long bytes() {
+			final long ns = namespace == null ? 0 : namespace.length;
+			// a string takes up to 2 bytes per char
+			final long n = name instanceof String ? 2L * ((String) name).length() : ((byte[]) name).length;
+			return ns + n;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			final Key that = (Key) other;
+			if (this.hash != that.hash || !Arrays.equals(this.namespace, that.namespace)) {
+				return false;
+			}
+			if (this.name instanceof String) {
+				return this.name.equals(that.name);
+			}
+			return that.name instanceof byte[] && Arrays.equals((byte[]) this.name, (byte[]) that.name);
+		}
+	}
 }
@@ -32,6 +32,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.IntFunction;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.function.RandomFunction;
@@ -40,6 +41,12 @@ import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 
 /**
  * Abstract factory for creating random-based unique identifiers (UUIDv4).
+ * <p>
+ * The lock is skipped if the random generator is thread-safe, which is the case
+ * of the default generator, {@link ThreadLocalRandom}, {@link SecureRandom}
+ * and random functions for which {@link RandomFunction#isThreadSafe()} returns
+ * true. Other random functions can be declared thread-safe with
+ * {@link Builder#withRandomFunction(LongSupplier, boolean)}.
  * 
  * @see RandomFunction
  */
@@ -60,6 +67,11 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 	 */
 	protected final ReentrantLock lock = new ReentrantLock();
 
+	/**
+	 * Whether the random generator is thread-safe, so the lock can be skipped.
+	 */
+	protected final boolean threadSafe;
+
 	/**
 	 * Constructor with a version number and a builder
 	 * 
@@ -69,6 +81,7 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 	protected AbstRandomBasedFactory(UuidVersion version, Builder<?, ?> builder) {
 		super(version);
 		this.random = builder.getRandom();
+		this.threadSafe = this.random.isThreadSafe();
 	}
 
 	@Override
@@ -96,7 +109,7 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 		 */
 		protected IRandom getRandom() {
 			if (this.random == null) {
-				this.random = new SafeRandom(new DefaultRandomFunction());
+				this.random = new SafeRandom(new DefaultRandomFunction(), true);
 			}
 			return this.random;
 		}
@@ -129,6 +142,42 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 			return (B) this;
 		}
 
+		/**
+		 * Set the random generator with a safe algorithm and per-thread buffers.
+		 * 
+		 * Each thread fills a buffer with bytes from its own {@link SecureRandom} and
+		 * takes random numbers from it, avoiding a call to {@link SecureRandom} for
+		 * every number. The {@link SecureRandom} is replaced by a new instance after
+		 * 2^24 bytes.
+		 * 
+		 * @param blockSize the buffer size in bytes, from 16 to 2^20
+		 * @return the generator
+		 * @throws IllegalArgumentException if the block size is out of range
+		 */
+		public B withSafeRandom(int blockSize) {
+			return withSafeRandom(blockSize, BufferedRandom.DEFAULT_REFRESH_BYTES);
+		}
+
+		/**
+		 * Set the random generator with a safe algorithm and per-thread buffers.
+		 * 
+		 * Each thread fills a buffer with bytes from its own {@link SecureRandom} and
+		 * takes random numbers from it, avoiding a call to {@link SecureRandom} for
+		 * every number. The {@link SecureRandom} is replaced by a new instance, which
+		 * is seeded again by the system, after the number of bytes given.
+		 * 
+		 * @param blockSize    the buffer size in bytes, from 16 to 2^20
+		 * @param refreshBytes the number of bytes before a new {@link SecureRandom}
+		 * @return the generator
+		 * @throws IllegalArgumentException if the block size is out of range or if the
+		 *                                  refresh bytes is less than the block size
+		 */
+		@SuppressWarnings("unchecked")
+		public B withSafeRandom(int blockSize, long refreshBytes) {
+			this.random = new BufferedRandom(blockSize, refreshBytes);
+			return (B) this;
+		}
+
 		/**
 		 * Set the random generator.
 		 * 
@@ -139,7 +188,8 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 		public B withRandom(Random random) {
 			if (random != null) {
 				if (random instanceof SecureRandom) {
-					this.random = new SafeRandom(random);
+					// instances of SecureRandom are thread-safe
+					this.random = new SafeRandom(random, true);
 				} else {
 					this.random = new FastRandom(random);
 				}
@@ -149,13 +199,37 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 
 		/**
 		 * Set a random function which returns random numbers.
+		 * <p>
+		 * The function is called without the lock if it is also a
+		 * {@link RandomFunction} that is thread-safe.
 		 * 
 		 * @param randomFunction a function
 		 * @return the builder
+		 * @see RandomFunction#isThreadSafe()
 		 */
 		@SuppressWarnings("unchecked")
 		public B withRandomFunction(LongSupplier randomFunction) {
-			this.random = new FastRandom(randomFunction);
+			final boolean threadSafe = randomFunction instanceof RandomFunction
+					&& ((RandomFunction) randomFunction).isThreadSafe();
+			this.random = new FastRandom(randomFunction, threadSafe);
+			return (B) this;
+		}
+
+		/**
+		 * Set a random function which returns random numbers and declare whether it
+		 * is thread-safe.
+		 * <p>
+		 * A thread-safe function, such as one that is backed by a thread-local
+		 * generator, is called without the lock.
+		 * 
+		 * @param randomFunction a function
+		 * @param threadSafe     true if the function can be called from many threads
+		 *                       at the same time
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withRandomFunction(LongSupplier randomFunction, boolean threadSafe) {
+			this.random = new FastRandom(randomFunction, threadSafe);
 			return (B) this;
 		}
 
@@ -194,6 +268,16 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 		 * @return an array
 		 */
 		byte[] nextBytes(int length);
+
+		/**
+		 * Check if the random generator can be used by many threads at the same
+		 * time.
+		 * 
+		 * @return true if thread-safe
+		 */
+		default boolean isThreadSafe() {
+			return false;
+		}
 	}
 
 	/**
@@ -202,12 +286,15 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 	protected static final class FastRandom implements IRandom {
 
 		private final LongSupplier randomFunction;
+		private final boolean threadSafe;
 
 		/**
 		 * Default constructor.
+		 * <p>
+		 * It uses {@link ThreadLocalRandom}, which is thread-safe.
 		 */
 		public FastRandom() {
-			this(newFastFunction(null));
+			this(newFastFunction(null), true);
 		}
 
 		/**
@@ -225,7 +312,24 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 		 * @param randomFunction a function
 		 */
 		public FastRandom(LongSupplier randomFunction) {
+			this(randomFunction, false);
+		}
+
+		/**
+		 * Constructor with a function which returns random numbers and a thread-safe
+		 * flag.
+		 * 
+		 * @param randomFunction a function
+		 * @param threadSafe     true if the function is thread-safe
+		 */
+		public FastRandom(LongSupplier randomFunction, boolean threadSafe) {
 			this.randomFunction = Objects.requireNonNull(randomFunction);
+			this.threadSafe = threadSafe;
+		}
+
+		@Override
+		public boolean isThreadSafe() {
+			return this.threadSafe;
 		}
 
 		@Override
@@ -235,8 +339,11 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 
 		@Override
 		public long nextLong(int length) {
-			byte[] bytes = nextBytes(length);
-			return ByteUtil.toNumber(bytes);
+			if (length <= 0 || length > Long.BYTES) {
+				return ByteUtil.toNumber(nextBytes(length));
+			}
+			// same as the leading bytes of `nextBytes()`, but without an array
+			return randomFunction.getAsLong() >>> (Long.SIZE - length * Byte.SIZE);
 		}
 
 		@Override
@@ -278,12 +385,15 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 	protected static final class SafeRandom implements IRandom {
 
 		private final IntFunction<byte[]> randomFunction;
+		private final boolean threadSafe;
 
 		/**
 		 * Default constructor.
+		 * <p>
+		 * It uses {@link SecureRandom}, which is thread-safe.
 		 */
 		public SafeRandom() {
-			this(newSafeFunction(null));
+			this(newSafeFunction(null), true);
 		}
 
 		/**
@@ -292,7 +402,17 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 		 * @param random a random
 		 */
 		public SafeRandom(Random random) {
-			this(newSafeFunction(Objects.requireNonNull(random)));
+			this(random, false);
+		}
+
+		/**
+		 * Constructor with a random and a thread-safe flag.
+		 * 
+		 * @param random     a random
+		 * @param threadSafe true if the random is thread-safe
+		 */
+		public SafeRandom(Random random, boolean threadSafe) {
+			this(newSafeFunction(Objects.requireNonNull(random)), threadSafe);
 		}
 
 		/**
@@ -301,7 +421,24 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 		 * @param randomFunction a function
 		 */
 		public SafeRandom(IntFunction<byte[]> randomFunction) {
+			this(randomFunction, false);
+		}
+
+		/**
+		 * Constructor with a function which returns random numbers and a thread-safe
+		 * flag.
+		 * 
+		 * @param randomFunction a function
+		 * @param threadSafe     true if the function is thread-safe
+		 */
+		public SafeRandom(IntFunction<byte[]> randomFunction, boolean threadSafe) {
 			this.randomFunction = Objects.requireNonNull(randomFunction);
+			this.threadSafe = threadSafe;
+		}
+
+		@Override
+		public boolean isThreadSafe() {
+			return this.threadSafe;
 		}
 
 		@Override
@@ -335,4 +472,184 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 			};
 		}
 	}
+
+	/**
+	 * A byte random generator with per-thread buffers.
+	 * <p>
+	 * Each thread has its own {@link SecureRandom} and its own buffer. The buffer
+	 * is filled with a single call to {@link SecureRandom#nextBytes(byte[])} and
+	 * random numbers are taken from it without allocating arrays. The
+	 * {@link SecureRandom} is replaced by a new instance after a given number of
+	 * bytes.
+	 * <p>
+	 * Note that the memory used is the block size multiplied by the number of
+	 * threads that use the generator.
+	 */
+	protected static final class BufferedRandom implements IRandom {
+
+		private final int blockSize;
+		private final long refreshBytes;
+		private final Supplier<Random> supplier;
+		private final ThreadLocal<Block> blocks;
+
+		static final int DEFAULT_BLOCK_SIZE = 4096; // 4 KB
+		static final long DEFAULT_REFRESH_BYTES = 1L << 24; // 16 MB
+
+		private static final int BLOCK_SIZE_MIN = 16;
+		private static final int BLOCK_SIZE_MAX = 1 << 20;
+
+		/**
+		 * Default constructor.
+		 */
+		public BufferedRandom() {
+			this(DEFAULT_BLOCK_SIZE, DEFAULT_REFRESH_BYTES);
+		}
+
+		/**
+		 * Constructor with a block size and a refresh interval.
+		 * 
+		 * @param blockSize    the buffer size in bytes, from 16 to 2^20
+		 * @param refreshBytes the number of bytes before a new {@link SecureRandom}
+		 */
+		public BufferedRandom(int blockSize, long refreshBytes) {
+			this(blockSize, refreshBytes, SecureRandom::new);
+		}
+
+		/**
+		 * Constructor with a block size, a refresh interval and a supplier of random
+		 * generators.
+		 * 
+		 * @param blockSize    the buffer size in bytes, from 16 to 2^20
+		 * @param refreshBytes the number of bytes before a new random generator
+		 * @param supplier     a supplier of random generators
+		 */
+		public BufferedRandom(int blockSize, long refreshBytes, Supplier<Random> supplier) {
+			if (blockSize < BLOCK_SIZE_MIN || blockSize > BLOCK_SIZE_MAX) {
+				throw new IllegalArgumentException(String.format("Invalid block size: %d", blockSize));
+			}
+			if (refreshBytes < blockSize) {
+				throw new IllegalArgumentException(String.format("Invalid refresh bytes: %d", refreshBytes));
+			}
+			this.blockSize = blockSize;
+			this.refreshBytes = refreshBytes;
+			this.supplier = Objects.requireNonNull(supplier);
+			this.blocks = ThreadLocal.withInitial(Block::new);
+		}
+
+		@Override
+		public long nextLong() {
+			return nextLong(Long.BYTES);
+		}
+
+		@Override
+		public long nextLong(int length) {
+			final Block block = blocks.get();
+			if (block.position + length > blockSize) {
+				block.refill();
+			}
+			final long number = ByteUtil.toNumber(block.buffer, block.position, block.position + length);
+			block.position += length;
+			return number;
+		}
+
+		@Override
+		public byte[] nextBytes(int length) {
+
+			final Block block = blocks.get();
+			final byte[] bytes = new byte[length];
+
+			int copied = 0;
+			while (copied < length) {
+				if (block.position == blockSize) {
+					block.refill();
+				}
+				final int count = Math.min(length - copied, blockSize - block.position);
+				System.arraycopy(block.buffer, block.position, bytes, copied, count);
+				block.position += count;
+				copied += count;
+			}
+
+			return bytes;
+		}
+
+		@Override
+		public boolean isThreadSafe() {
+			// each thread has its own block
+			return true;
+		}
+
+		private final class Block {
+
+			private final byte[] buffer = new byte[blockSize];
+			private int position = blockSize; // empty
+			private long filled = 0;
+			private Random random = null;
+
+			private void refill() {
+				if (random == null || filled >= refreshBytes) {
+					random = Objects.requireNonNull(supplier.get());
+					filled = 0;
+				}
+				random.nextBytes(buffer);
+				filled += blockSize;
+				position = 0;
+			}
+		}
+	}
+
+	/**
+	 * A random generator that guards another one with a lock.
+	 * <p>
+	 * It makes a generator that is not thread-safe usable by engines that call it
+	 * from many threads without holding the lock of the factory.
+	 */
+	protected static final class LockedRandom implements IRandom {
+
+		private final IRandom random;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		/**
+		 * Constructor with a random generator.
+		 * 
+		 * @param random a random generator
+		 */
+		public LockedRandom(IRandom random) {
+			this.random = Objects.requireNonNull(random);
+		}
+
+		@Override
+		public long nextLong() {
+			lock.lock();
+			try {
+				return this.random.nextLong();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public long nextLong(int length) {
+			lock.lock();
+			try {
+				return this.random.nextLong(length);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public byte[] nextBytes(int length) {
+			lock.lock();
+			try {
+				return this.random.nextBytes(length);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public boolean isThreadSafe() {
+			return true;
+		}
+	}
 }
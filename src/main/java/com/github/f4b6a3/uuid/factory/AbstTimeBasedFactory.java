@@ -24,20 +24,32 @@
 
 package com.github.f4b6a3.uuid.factory;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.function.ClockSeqFunction;
 import com.github.f4b6a3.uuid.factory.function.NodeIdFunction;
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
 import com.github.f4b6a3.uuid.factory.function.TimeFunction;
+import com.github.f4b6a3.uuid.factory.function.impl.BorrowOverflowPolicy;
 import com.github.f4b6a3.uuid.factory.function.impl.DefaultClockSeqFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.DefaultNodeIdFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.DefaultTimeFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.HashNodeIdFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.MacNodeIdFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.RandomNodeIdFunction;
+import com.github.f4b6a3.uuid.factory.function.impl.TickingClock;
 import com.github.f4b6a3.uuid.factory.function.impl.WindowsTimeFunction;
 import com.github.f4b6a3.uuid.util.UuidTime;
 import com.github.f4b6a3.uuid.util.internal.ByteUtil;
@@ -92,6 +104,16 @@ import com.github.f4b6a3.uuid.util.internal.SettingsUtil;
  * export UUIDCREATOR_NODE="mac"
  * }</pre>
  *
+ * <p>
+ * By default, the factory holds a lock while it calls the functions. The
+ * builder option {@link Builder#withLockFree()} replaces the lock with a
+ * compare-and-set on the time stamp, so that concurrent callers claim distinct
+ * time stamps without waiting for each other. The builder option
+ * {@link Builder#withStripedClockSeq()} gives each thread its own clock
+ * sequence, so that threads share no state at all. The builder option
+ * {@link Builder#withClockSeqSpill(int)} lets the locked engine create more
+ * than 10,000 UUIDs per millisecond without going ahead of the clock.
+ *
  * @see TimeFunction
  * @see NodeIdFunction
  * @see ClockSeqFunction
@@ -121,6 +143,42 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 	 */
 	protected final ReentrantLock lock = new ReentrantLock();
 
+	// applied when the ticks of the current millisecond are exhausted
+	private final OverflowPolicy overflowPolicy;
+
+	// bits of the last UUID, guarded by the lock
+	private long msb;
+	private long lsb;
+
+	// state of the lock-free engine: generation and last time stamp
+	private final AtomicLong state; // null if locked
+	// clock sequences of the lock-free engine, indexed by generation
+	private final AtomicLongArray clockseqs; // null if locked
+	// last time stamp passed to the clock sequence function, guarded by the lock
+	private long clockseqTimestamp;
+
+	// stripes of the striped engine, one for each thread
+	private final Stripes stripes; // null if not striped
+
+	// low bits of the clock sequence used as a counter, guarded by the lock
+	private final int spillBits; // zero if not spilling
+	private final long spillMax;
+	private long spill;
+	private long spillTimestamp = -1L;
+	private long spillClockSeq;
+
+	// drift metrics of the spill mode, guarded by the lock
+	private long spilledCount;
+	private long borrowedCount;
+	private long maxDrift;
+
+	private static final int GENERATION_SHIFT = 60;
+	private static final int GENERATIONS = 16; // 4 bits left by the time stamp
+	private static final long TIMESTAMP_MASK = 0x0fffffffffffffffL;
+
+	// let go up to 1 second ahead of system clock
+	private static final long ADVANCE_MAX = UuidTime.TICKS_PER_SECOND;
+
 	private static final long EPOCH_TIMESTAMP = TimeFunction.toUnixTimestamp(UuidTime.EPOCH_GREG);
 
 	/**
@@ -134,6 +192,97 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 		this.timeFunction = builder.getTimeFunction();
 		this.nodeidFunction = builder.getNodeIdFunction();
 		this.clockseqFunction = builder.getClockSeqFunction();
+		this.overflowPolicy = builder.getOverflowPolicy();
+		this.spillBits = builder.striped || builder.lockFree ? 0 : builder.spillBits;
+		this.spillMax = (1L << this.spillBits) - 1;
+
+		if (builder.striped) {
+			this.stripes = new Stripes();
+			this.clockseqs = null;
+			this.state = null;
+		} else if (builder.lockFree) {
+			this.stripes = null;
+			final long timestamp = timestamp();
+			this.clockseqTimestamp = timestamp;
+			this.clockseqs = new AtomicLongArray(GENERATIONS);
+			this.clockseqs.set(0, ClockSeqFunction.toExpectedRange(this.clockseqFunction.applyAsLong(timestamp)));
+			this.state = new AtomicLong(0L); // generation 0
+		} else {
+			this.stripes = null;
+			this.clockseqs = null;
+			this.state = null;
+		}
+	}
+
+	/**
+	 * Returns the number of threads that hold a clock sequence of this factory.
+	 * <p>
+	 * A stripe is active from the first UUID created by a thread until the thread
+	 * is garbage collected. It returns zero if the factory is not striped.
+	 * 
+	 * @return the number of active stripes
+	 * @see Builder#withStripedClockSeq()
+	 */
+	public int getActiveStripes() {
+		if (this.stripes == null) {
+			return 0;
+		}
+		this.stripes.expunge();
+		return this.stripes.leases.active.size();
+	}
+
+	/**
+	 * Returns the number of UUIDs that used the spill bits of the clock sequence.
+	 * <p>
+	 * It returns zero if the factory does not spill.
+	 * 
+	 * @return a number of UUIDs
+	 * @see Builder#withClockSeqSpill(int)
+	 */
+	public long getSpilledCount() {
+		lock.lock();
+		try {
+			return this.spilledCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of ticks borrowed from the future after the spill bits
+	 * were exhausted.
+	 * <p>
+	 * It is zero as long as the creation rate is below the ceiling. It returns
+	 * zero if the factory does not spill.
+	 * 
+	 * @return a number of 100-nanosecond ticks
+	 * @see Builder#withClockSeqSpill(int)
+	 */
+	public long getBorrowedCount() {
+		lock.lock();
+		try {
+			return this.borrowedCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the maximum distance that a time stamp has been ahead of the clock.
+	 * <p>
+	 * It is less than 1 millisecond (10,000 ticks) as long as the creation rate is
+	 * below the ceiling. It returns zero if the factory does not spill.
+	 * 
+	 * @return a number of 100-nanosecond ticks
+	 * @see Builder#withClockSeqSpill(int)
+	 */
+	public long getMaxDrift() {
+		lock.lock();
+		try {
+			return this.maxDrift;
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -143,31 +292,442 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 	 */
 	@Override
 	public UUID create() {
+
+		if (this.stripes != null) {
+			final Stripe stripe = this.stripes.next();
+			return new UUID(stripe.msb, stripe.lsb);
+		}
+
+		if (this.state != null) {
+			final long claimed = claim();
+			final long timestamp = claimed & TIMESTAMP_MASK;
+			final long clockSequence = this.clockseqs.get((int) (claimed >>> GENERATION_SHIFT));
+			final long nodeIdentifier = NodeIdFunction.toExpectedRange(this.nodeidFunction.getAsLong());
+			return new UUID(formatMostSignificantBits(timestamp),
+					formatLeastSignificantBits(nodeIdentifier, clockSequence));
+		}
+
 		lock.lock();
 		try {
+			next();
+			return new UUID(this.msb, this.lsb);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Creates a time-based UUID and writes its bits into an array.
+	 * <p>
+	 * It doesn't allocate a {@link UUID} instance.
+	 * 
+	 * @param dst    an array of longs
+	 * @param offset the index of the most significant bits
+	 * @throws IndexOutOfBoundsException if there are less than 2 positions after
+	 *                                   the offset
+	 */
+	@Override
+	public void createInto(long[] dst, int offset) {
+		checkBounds(dst.length, offset, 2);
 
-			// Get the time stamp
-			final long timestamp = TimeFunction.toExpectedRange(this.timeFunction.getAsLong() - EPOCH_TIMESTAMP);
+		if (this.stripes != null) {
+			final Stripe stripe = this.stripes.next();
+			dst[offset] = stripe.msb;
+			dst[offset + 1] = stripe.lsb;
+			return;
+		}
 
-			// Get the node identifier
+		if (this.state != null) {
+			final long claimed = claim();
+			final long timestamp = claimed & TIMESTAMP_MASK;
+			final long clockSequence = this.clockseqs.get((int) (claimed >>> GENERATION_SHIFT));
 			final long nodeIdentifier = NodeIdFunction.toExpectedRange(this.nodeidFunction.getAsLong());
+			dst[offset] = formatMostSignificantBits(timestamp);
+			dst[offset + 1] = formatLeastSignificantBits(nodeIdentifier, clockSequence);
+			return;
+		}
+
+		lock.lock();
+		try {
+			next();
+			dst[offset] = this.msb;
+			dst[offset + 1] = this.lsb;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Computes the bits of the next UUID.
+	 * <p>
+	 * It must be called while holding the lock.
+	 */
+	private void next() {
+
+		if (this.spillBits > 0) {
+			nextWithSpill();
+			return;
+		}
 
-			// Get the clock sequence
-			final long clockSequence = ClockSeqFunction.toExpectedRange(this.clockseqFunction.applyAsLong(timestamp));
+		// Get the time stamp
+		final long timestamp = timestamp();
 
-			// Format the most significant bits
-			final long msb = this.formatMostSignificantBits(timestamp);
+		// Get the node identifier
+		final long nodeIdentifier = NodeIdFunction.toExpectedRange(this.nodeidFunction.getAsLong());
 
-			// Format the least significant bits
-			final long lsb = this.formatLeastSignificantBits(nodeIdentifier, clockSequence);
+		// Get the clock sequence
+		final long clockSequence = ClockSeqFunction.toExpectedRange(this.clockseqFunction.applyAsLong(timestamp));
 
-			return new UUID(msb, lsb);
+		// Format the most significant bits
+		this.msb = this.formatMostSignificantBits(timestamp);
+
+		// Format the least significant bits
+		this.lsb = this.formatLeastSignificantBits(nodeIdentifier, clockSequence);
+	}
+
+	/**
+	 * Computes the bits of the next UUID, spilling into the clock sequence when
+	 * the time stamp cannot advance.
+	 * <p>
+	 * The time stamp advances 1 tick for each UUID, up to 1 millisecond minus 1
+	 * tick ahead of the clock. From then on, the time stamp stays where it is and
+	 * the low bits of the clock sequence are incremented. Only if they are
+	 * exhausted too, the overflow policy is applied, which borrows a tick from the
+	 * future by default.
+	 * <p>
+	 * It must be called while holding the lock.
+	 */
+	private void nextWithSpill() {
+
+		final long time = timestamp();
+		final long ahead = this.spillTimestamp - time;
+
+		if (ahead < 0 || ahead >= ADVANCE_MAX) {
+			// the clock advanced or went back too much
+			this.spillTimestamp = time;
+			this.spill = 0;
+			this.spillClockSeq = ClockSeqFunction.toExpectedRange(this.clockseqFunction.applyAsLong(time));
+		} else if (ahead < UuidTime.TICKS_PER_MILLI - 1) {
+			// spend the tick budget of the millisecond
+			this.spillTimestamp++;
+			this.spill = 0;
+			this.spillClockSeq = ClockSeqFunction
+					.toExpectedRange(this.clockseqFunction.applyAsLong(this.spillTimestamp));
+		} else if (this.spill < this.spillMax) {
+			// spill into the clock sequence
+			this.spill++;
+			this.spilledCount++;
+		} else {
+			// the ceiling was reached: borrow a tick or wait
+			this.spillTimestamp = this.overflowPolicy.apply(this.spillTimestamp, this::timestamp);
+			this.spill = 0;
+			if (this.spillTimestamp - timestamp() >= UuidTime.TICKS_PER_MILLI) {
+				this.borrowedCount++;
+			}
+			this.spillClockSeq = ClockSeqFunction
+					.toExpectedRange(this.clockseqFunction.applyAsLong(this.spillTimestamp));
+		}
+
+		if (this.spillTimestamp - time > this.maxDrift) {
+			this.maxDrift = this.spillTimestamp - time;
+		}
+
+		final long nodeIdentifier = NodeIdFunction.toExpectedRange(this.nodeidFunction.getAsLong());
+		final long clockSequence = (this.spillClockSeq & ~this.spillMax) | this.spill;
+
+		this.msb = this.formatMostSignificantBits(this.spillTimestamp);
+		this.lsb = this.formatLeastSignificantBits(nodeIdentifier, clockSequence);
+	}
+
+	/**
+	 * Claims a time stamp for the lock-free engine.
+	 * <p>
+	 * The time stamp is advanced with a compare-and-set, so each caller gets a
+	 * distinct one. If the clock has not advanced since the last call, the caller
+	 * borrows the next tick after the last time stamp, going up to 1 second ahead
+	 * of the clock, unless the overflow policy says otherwise. If the clock goes
+	 * back further than that, the engine starts a new generation with a new clock
+	 * sequence. No two callers get the same pair
+	 * of time stamp and clock sequence.
+	 * 
+	 * @return the generation and the time stamp
+	 */
+	private long claim() {
+		while (true) {
+			final long time = timestamp();
+			final long last = this.state.get();
+			final long lastTime = last & TIMESTAMP_MASK;
 
+			final long next;
+			if (time > lastTime) {
+				next = time; // the clock advanced
+			} else if (lastTime - time < ADVANCE_MAX) {
+				next = advance(lastTime, time); // borrow a tick
+			} else {
+				reset(time); // the clock went back
+				continue;
+			}
+
+			final long claimed = (last & ~TIMESTAMP_MASK) | (next & TIMESTAMP_MASK);
+			if (this.state.compareAndSet(last, claimed)) {
+				return claimed;
+			}
+		}
+	}
+
+	/**
+	 * Returns the tick after the last time stamp, applying the overflow policy if
+	 * it goes 1 millisecond ahead of the clock.
+	 * 
+	 * @param lastTime the last time stamp
+	 * @param time     the current time stamp
+	 * @return the next time stamp
+	 */
+	private long advance(final long lastTime, final long time) {
+		if (lastTime + 1 - time < UuidTime.TICKS_PER_MILLI) {
+			return lastTime + 1;
+		}
+		return this.overflowPolicy.apply(lastTime, this::timestamp);
+	}
+
+	/**
+	 * Starts a new generation of the lock-free engine with a new clock sequence.
+	 * <p>
+	 * The clock sequence function is told that the time stamp did not advance, so
+	 * it returns a clock sequence different from the previous one. A generation
+	 * is only reused after 15 other resets.
+	 * 
+	 * @param time the current time stamp
+	 */
+	private void reset(final long time) {
+		lock.lock();
+		try {
+			final long last = this.state.get();
+			if ((last & TIMESTAMP_MASK) - time < ADVANCE_MAX) {
+				return; // another thread has already reset
+			}
+
+			this.clockseqTimestamp = Math.min(time, this.clockseqTimestamp);
+			final long clockSequence = this.clockseqFunction.applyAsLong(this.clockseqTimestamp);
+
+			final int generation = (int) ((last >>> GENERATION_SHIFT) + 1) % GENERATIONS;
+			this.clockseqs.set(generation, ClockSeqFunction.toExpectedRange(clockSequence));
+			// the next claim gets the current time stamp
+			this.state.set(((long) generation << GENERATION_SHIFT) | ((time - 1) & TIMESTAMP_MASK));
 		} finally {
 			lock.unlock();
 		}
 	}
 
+	/**
+	 * The stripes of a factory, one for each thread.
+	 * <p>
+	 * Each stripe leases a clock sequence from the pool of leases shared by all
+	 * factories and keeps its own last time stamp, so the threads never touch
+	 * shared state after the first UUID. When a thread is garbage collected, its
+	 * clock sequence is returned to the pool, but only after the time stamps it
+	 * may have used are in the past. The same happens to all the clock sequences
+	 * of a factory that is garbage collected while its threads are still alive.
+	 */
+	private final class Stripes extends ThreadLocal<Stripe> {
+
+		private final Leases leases = new Leases(this, timeFunction);
+
+		@Override
+		protected Stripe initialValue() {
+			expunge();
+			final Stripe stripe = new Stripe(Thread.currentThread(), leases.dead, DefaultClockSeqFunction.lease());
+			leases.active.add(stripe);
+			return stripe;
+		}
+
+		/**
+		 * Computes the bits of the next UUID of the current thread.
+		 * 
+		 * @return the stripe of the current thread
+		 */
+		private Stripe next() {
+
+			final Stripe stripe = get();
+
+			final long time = timestamp();
+			final long last = stripe.timestamp;
+
+			final long timestamp;
+			if (time > last) {
+				timestamp = time; // the clock advanced
+			} else if (last - time < ADVANCE_MAX) {
+				timestamp = advance(last, time); // borrow a tick
+			} else {
+				// the clock went back: retire the clock sequence
+				leases.retired.add(new Retired(stripe.clockseq, last));
+				expunge();
+				stripe.clockseq = DefaultClockSeqFunction.lease();
+				timestamp = time;
+			}
+			stripe.timestamp = timestamp;
+
+			final long nodeIdentifier = NodeIdFunction.toExpectedRange(nodeidFunction.getAsLong());
+			stripe.msb = formatMostSignificantBits(timestamp);
+			stripe.lsb = formatLeastSignificantBits(nodeIdentifier, stripe.clockseq);
+			return stripe;
+		}
+
+		/**
+		 * Returns to the pool the clock sequences that are no longer used, including
+		 * those of the factories that were garbage collected.
+		 */
+		private void expunge() {
+			Leases.reap();
+			leases.expunge();
+		}
+	}
+
+	/**
+	 * The clock sequences leased by the stripes of a factory.
+	 * <p>
+	 * It is weakly bound to the stripes, so that it outlives the factory and can
+	 * return its clock sequences to the pool after the factory is garbage
+	 * collected.
+	 */
+	private static final class Leases extends WeakReference<Stripes> {
+
+		// the leases of all striped factories, alive or not
+		private static final Set<Leases> LEASES = ConcurrentHashMap.newKeySet();
+		// the leases of the factories that were garbage collected
+		private static final ReferenceQueue<Stripes> DROPPED = new ReferenceQueue<>();
+
+		private final TimeFunction timeFunction;
+
+		private final Set<Stripe> active = ConcurrentHashMap.newKeySet();
+		private final ReferenceQueue<Thread> dead = new ReferenceQueue<>();
+		private final ConcurrentLinkedQueue<Retired> retired = new ConcurrentLinkedQueue<>();
+
+		private volatile boolean dropped;
+
+		private Leases(Stripes stripes, TimeFunction timeFunction) {
+			super(stripes, DROPPED);
+			this.timeFunction = timeFunction;
+			LEASES.add(this);
+		}
+
+		/**
+		 * Retires the clock sequences of the threads that are gone, or of all
+		 * threads if the factory is gone, and returns to the pool those whose time
+		 * stamps are in the past.
+		 */
+		private void expunge() {
+
+			final long time = timestamp(this.timeFunction);
+
+			Reference<? extends Thread> reference;
+			while ((reference = dead.poll()) != null) {
+				retire((Stripe) reference, time);
+			}
+
+			if (this.dropped) {
+				for (Stripe stripe : active) {
+					retire(stripe, time);
+				}
+			}
+
+			for (Retired retiree : retired) {
+				if (time > retiree.timestamp && retired.remove(retiree)) {
+					DefaultClockSeqFunction.release(retiree.clockseq);
+				}
+			}
+		}
+
+		/**
+		 * Retires the clock sequence of a stripe that is no longer used.
+		 * 
+		 * @param stripe a stripe
+		 * @param time   the current time stamp
+		 */
+		private void retire(final Stripe stripe, final long time) {
+			if (active.remove(stripe)) {
+				// the thread may have gone up to 1 second ahead of the clock
+				retired.add(new Retired(stripe.clockseq, time + ADVANCE_MAX));
+			}
+		}
+
+		/**
+		 * Returns to the pool the clock sequences of the factories that were garbage
+		 * collected.
+		 */
+		private static void reap() {
+
+			Reference<? extends Stripes> reference;
+			while ((reference = DROPPED.poll()) != null) {
+				((Leases) reference).dropped = true;
+			}
+
+			for (Leases leases : LEASES) {
+				if (leases.dropped) {
+					leases.expunge();
+					if (leases.active.isEmpty() && leases.retired.isEmpty()) {
+						LEASES.remove(leases);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The state of a thread in the striped engine.
+	 * <p>
+	 * It is only written by its thread, except for the clock sequence, which is
+	 * read by other threads after the thread is gone.
+	 */
+	private static final class Stripe extends WeakReference<Thread> {
+
+		private volatile int clockseq;
+		private long timestamp;
+
+		// bits of the last UUID
+		private long msb;
+		private long lsb;
+
+		private Stripe(Thread thread, ReferenceQueue<Thread> queue, int clockseq) {
+			super(thread, queue);
+			this.clockseq = clockseq;
+			this.timestamp = -1;
+		}
+	}
+
+	/**
+	 * A clock sequence waiting to be returned to the pool.
+	 */
+	private static final class Retired {
+
+		private final int clockseq;
+		private final long timestamp; // the last time stamp it may have used
+
+		private Retired(int clockseq, long timestamp) {
+			this.clockseq = clockseq;
+			this.timestamp = timestamp;
+		}
+	}
+
+	/**
+	 * Returns the current time stamp in the expected range.
+	 * 
+	 * @return the time stamp
+	 */
+	private long timestamp() {
+		return timestamp(this.timeFunction);
+	}
+
+	/**
+	 * Returns the current time stamp of a time function in the expected range.
+	 * 
+	 * @param timeFunction a time function
+	 * @return the time stamp
+	 */
+	private static long timestamp(final TimeFunction timeFunction) {
+		return TimeFunction.toExpectedRange(timeFunction.getAsLong() - EPOCH_TIMESTAMP);
+	}
+
 	/**
 	 * Returns a time-based UUID.
 	 * 
@@ -263,14 +823,25 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 	 * @return a time function
 	 */
 	protected static TimeFunction selectTimeFunction() {
+		return selectTimeFunction(new BorrowOverflowPolicy());
+	}
+
+	/**
+	 * Select the time function with an overflow policy.
+	 * 
+	 * @param overflowPolicy a policy applied when the counter is exhausted
+	 * @return a time function
+	 * @see #selectTimeFunction()
+	 */
+	protected static TimeFunction selectTimeFunction(OverflowPolicy overflowPolicy) {
 
 		// check if the operating system is WINDOWS
 		final String os = System.getProperty("os.name");
 		if (os != null && os.toLowerCase().startsWith("win")) {
-			return new WindowsTimeFunction();
+			return new WindowsTimeFunction(Clock.systemUTC(), overflowPolicy);
 		}
 
-		return new DefaultTimeFunction();
+		return new DefaultTimeFunction(Clock.systemUTC(), overflowPolicy);
 	}
 
 	/**
@@ -282,6 +853,10 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 		 * The time function.
 		 */
 		protected TimeFunction timeFunction;
+		/**
+		 * The clock.
+		 */
+		protected Clock clock;
 		/**
 		 * The node function.
 		 */
@@ -290,19 +865,61 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 		 * The clock sequence function.
 		 */
 		protected ClockSeqFunction clockseqFunction;
+		/**
+		 * The lock-free engine flag.
+		 */
+		protected boolean lockFree;
+		/**
+		 * The striped engine flag.
+		 */
+		protected boolean striped;
+		/**
+		 * The number of clock sequence bits used as a counter.
+		 */
+		protected int spillBits;
+		/**
+		 * The overflow policy.
+		 */
+		protected OverflowPolicy overflowPolicy;
+
+		private static final int SPILL_BITS_MAX = 14;
 
 		/**
 		 * Get the time function.
+		 * <p>
+		 * The lock-free and striped engines and the spill mode read the system
+		 * clock directly by default, as they advance the time stamp by themselves.
 		 * 
 		 * @return a function
 		 */
 		protected TimeFunction getTimeFunction() {
 			if (this.timeFunction == null) {
-				this.timeFunction = selectTimeFunction();
+				if (this.clock != null) {
+					final Clock c = this.clock;
+					this.timeFunction = this.lockFree || this.striped || this.spillBits > 0
+							? () -> c.millis() * UuidTime.TICKS_PER_MILLI
+							: new DefaultTimeFunction(c, getOverflowPolicy());
+				} else {
+					this.timeFunction = this.lockFree || this.striped || this.spillBits > 0
+							? () -> System.currentTimeMillis() * UuidTime.TICKS_PER_MILLI
+							: selectTimeFunction(getOverflowPolicy());
+				}
 			}
 			return this.timeFunction;
 		}
 
+		/**
+		 * Get the overflow policy.
+		 * 
+		 * @return a policy
+		 */
+		protected OverflowPolicy getOverflowPolicy() {
+			if (this.overflowPolicy == null) {
+				this.overflowPolicy = new BorrowOverflowPolicy();
+			}
+			return this.overflowPolicy;
+		}
+
 		/**
 		 * Get the node function.
 		 * 
@@ -339,6 +956,24 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 			return (B) this;
 		}
 
+		/**
+		 * Set the clock.
+		 * <p>
+		 * The time function reads the milliseconds from the clock. It is useful with
+		 * a {@link TickingClock}, which is cheaper to read than the system clock.
+		 * 
+		 * @param clock a clock
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withClock(Clock clock) {
+			if (clock != null) {
+				this.clock = clock;
+				this.timeFunction = null;
+			}
+			return (B) this;
+		}
+
 		/**
 		 * Set the node function
 		 * 
@@ -461,6 +1096,119 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 			return (B) this;
 		}
 
+		/**
+		 * Use a lock-free engine instead of a lock.
+		 * <p>
+		 * Concurrent callers claim distinct time stamps with a compare-and-set.
+		 * When the clock does not advance, the time stamp goes up to 1 second ahead
+		 * of it. The clock sequence only changes if the clock goes back more than
+		 * that.
+		 * <p>
+		 * The time function and the node function must be thread-safe. The
+		 * built-in node functions are. If no time function is set, the system
+		 * clock is used.
+		 * 
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withLockFree() {
+			this.lockFree = true;
+			return (B) this;
+		}
+
+		/**
+		 * Give each thread its own clock sequence instead of sharing a lock.
+		 * <p>
+		 * On its first UUID, a thread leases a clock sequence from a pool shared by
+		 * all factories of the class loader. From then on it keeps its own time
+		 * stamp, so no state is shared between threads. UUIDs are unique because
+		 * no two threads hold the same clock sequence at the same time. The clock
+		 * sequence is returned to the pool after the thread or the factory is
+		 * garbage collected.
+		 * <p>
+		 * The pool has 16384 values, which limits the number of threads that can
+		 * hold a clock sequence at the same time across all factories. When all
+		 * values are leased, the first UUID of a new thread throws an
+		 * {@link IllegalStateException}. The leased values are not used by the
+		 * clock sequence functions of other factories.
+		 * <p>
+		 * It overrides the clock sequence function and the lock-free engine. The
+		 * time function and the node function must be thread-safe. The built-in
+		 * node functions are. If no time function is set, the system clock is
+		 * used.
+		 * 
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withStripedClockSeq() {
+			this.striped = true;
+			return (B) this;
+		}
+
+		/**
+		 * Spill into the low bits of the clock sequence when the time stamp cannot
+		 * advance.
+		 * <p>
+		 * The time stamp has 10,000 ticks per millisecond. Once they are spent, the
+		 * default time function goes ahead of the clock, up to 1 second. In this
+		 * mode, the time stamp stays at the last tick of the millisecond instead,
+		 * and the low bits of the clock sequence are incremented. The time stamp
+		 * never goes ahead of the clock as long as the creation rate is below the
+		 * ceiling of 10,000 + 2^bits - 1 UUIDs per millisecond, for example 26,383
+		 * with 14 bits. Above that, the overflow policy is applied, which borrows
+		 * ticks from the future by default.
+		 * <p>
+		 * The drift can be monitored with {@link AbstTimeBasedFactory#getMaxDrift()},
+		 * {@link AbstTimeBasedFactory#getSpilledCount()} and
+		 * {@link AbstTimeBasedFactory#getBorrowedCount()}.
+		 * <p>
+		 * UUIDv6 remain ordered, since the clock sequence comes after the time
+		 * stamp. The spilled clock sequences may overlap those of other factories,
+		 * so the uniqueness across factories relies on the node identifier, which is
+		 * random by default.
+		 * <p>
+		 * It applies to the default engine. The lock-free and striped engines ignore
+		 * it. If no time function is set, the system clock is used.
+		 * 
+		 * @param bits the number of clock sequence bits, from 1 to 14
+		 * @return the builder
+		 * @throws IllegalArgumentException if the number of bits is out of range
+		 */
+		@SuppressWarnings("unchecked")
+		public B withClockSeqSpill(int bits) {
+			if (bits < 1 || bits > SPILL_BITS_MAX) {
+				throw new IllegalArgumentException(
+						String.format("Invalid spill bits: %s (expected 1 to %s)", bits, SPILL_BITS_MAX));
+			}
+			this.spillBits = bits;
+			return (B) this;
+		}
+
+		/**
+		 * Set the policy applied when the ticks of the current millisecond are
+		 * exhausted.
+		 * <p>
+		 * By default, ticks are borrowed from the future, going up to 1 second ahead
+		 * of the clock. The policy can also wait for the next millisecond with
+		 * {@link OverflowPolicy#spin()} or {@link OverflowPolicy#park()}, or throw
+		 * an exception with {@link OverflowPolicy#fail()}.
+		 * <p>
+		 * It applies to all engines and to the default time functions. A custom time
+		 * function set with {@link #withTimeFunction(TimeFunction)} is responsible
+		 * for its own overflow in the default engine.
+		 * <p>
+		 * The ticks passed to the policy are milliseconds in the default engine and
+		 * time stamps of 100 nanoseconds in the lock-free, striped and spill engines.
+		 * 
+		 * @param overflowPolicy a policy
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withOverflowPolicy(OverflowPolicy overflowPolicy) {
+			this.overflowPolicy = overflowPolicy;
+			return (B) this;
+		}
+
 		/**
 		 * Finish the factory building.
 		 * 
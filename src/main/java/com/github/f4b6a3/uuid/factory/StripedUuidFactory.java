@@ -0,0 +1,303 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Factory that shards UUID generation across many independent factories.
+ * <p>
+ * It keeps a set of stripes, each one with its own factory obtained from a
+ * supplier. A thread picks a stripe using a probe hash. If the stripe is busy,
+ * the thread moves to another stripe and more stripes are added, up to the
+ * maximum. Stripes are created lazily, so a single thread uses a single
+ * factory. The maximum is the number of available processors by default.
+ * <p>
+ * With thread affinity, the probe hash is fixed for each thread, so a thread
+ * always uses the same stripe and never moves to another one.
+ * <p>
+ * UUIDs created by different stripes are not ordered with respect to each
+ * other. Use it for random-based UUIDs and COMBs, when cross-thread ordering
+ * is not required. Factories returned by the supplier must be thread-safe,
+ * because a stripe is shared when all stripes are busy.
+ * <p>
+ * Usage:
+ * 
+ * <pre>{@code
+ * UuidFactory factory = new StripedUuidFactory(() -> new RandomBasedFactory());
+ * UUID uuid = factory.create();
+ * }</pre>
+ */
+public final class StripedUuidFactory extends UuidFactory {
+
+	private final Supplier<? extends UuidFactory> supplier;
+	private final AtomicReferenceArray<Stripe> stripes;
+	private final AtomicInteger size; // stripes in use
+	private final int maxStripes;
+	private final boolean affinity;
+	private final ThreadLocal<Probe> probes;
+
+	// attempts to find a free stripe before sharing one
+	private static final int MAX_ATTEMPTS = 3;
+
+	/**
+	 * Constructor with a supplier of factories.
+	 * 
+	 * @param supplier a supplier of factories
+	 */
+	public StripedUuidFactory(Supplier<? extends UuidFactory> supplier) {
+		this(supplier, false);
+	}
+
+	/**
+	 * Constructor with a supplier of factories and a thread affinity flag.
+	 * 
+	 * @param supplier a supplier of factories
+	 * @param affinity true if each thread must always use the same stripe
+	 */
+	public StripedUuidFactory(Supplier<? extends UuidFactory> supplier, boolean affinity) {
+		this(supplier, Runtime.getRuntime().availableProcessors(), affinity);
+	}
+
+	/**
+	 * Constructor with a supplier of factories, a maximum number of stripes and a
+	 * thread affinity flag.
+	 * <p>
+	 * The maximum number of stripes is rounded down to a power of 2.
+	 * 
+	 * @param supplier   a supplier of factories
+	 * @param maxStripes the maximum number of stripes, greater than zero
+	 * @param affinity   true if each thread must always use the same stripe
+	 * @throws IllegalArgumentException if the maximum number of stripes is less
+	 *                                  than 1
+	 */
+	public StripedUuidFactory(Supplier<? extends UuidFactory> supplier, int maxStripes, boolean affinity) {
+		this(supplier, first(supplier, maxStripes), maxStripes, affinity);
+	}
+
+	private StripedUuidFactory(Supplier<? extends UuidFactory> supplier, UuidFactory first, int maxStripes,
+			boolean affinity) {
+		super(first.getVersion());
+		this.supplier = supplier;
+		this.maxStripes = Integer.highestOneBit(maxStripes);
+		this.stripes = new AtomicReferenceArray<>(this.maxStripes);
+		this.stripes.set(0, new Stripe(first));
+		this.size = new AtomicInteger(affinity ? this.maxStripes : 1);
+		this.affinity = affinity;
+		this.probes = ThreadLocal.withInitial(Probe::new);
+	}
+
+	private static UuidFactory first(Supplier<? extends UuidFactory> supplier, int maxStripes) {
+		if (maxStripes < 1) {
+			throw new IllegalArgumentException(String.format("Invalid max stripes: %d", maxStripes));
+		}
+		return Objects.requireNonNull(supplier.get(), "Null factory");
+	}
+
+	/**
+	 * Returns the number of stripes created so far.
+	 * 
+	 * @return the number of stripes
+	 */
+	public int getStripes() {
+		int count = 0;
+		for (int i = 0; i < maxStripes; i++) {
+			if (stripes.get(i) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public UUID create() {
+		final Probe probe = acquire();
+		try {
+			return probe.stripe.factory.create();
+		} finally {
+			probe.release();
+		}
+	}
+
+	@Override
+	public UUID create(Parameters parameters) {
+		final Probe probe = acquire();
+		try {
+			return probe.stripe.factory.create(parameters);
+		} finally {
+			probe.release();
+		}
+	}
+
+	/**
+	 * Fills a range of an array with UUIDs.
+	 * <p>
+	 * All the UUIDs of the range are created by the same stripe.
+	 * 
+	 * @param uuids  an array of UUIDs
+	 * @param offset the index of the first element to be filled
+	 * @param length the number of elements to be filled
+	 * @throws IndexOutOfBoundsException if the range is out of the array bounds
+	 */
+	@Override
+	public void createBatch(UUID[] uuids, int offset, int length) {
+		checkBounds(uuids.length, offset, length);
+		final Probe probe = acquire();
+		try {
+			probe.stripe.factory.createBatch(uuids, offset, length);
+		} finally {
+			probe.release();
+		}
+	}
+
+	@Override
+	public void createInto(long[] dst, int offset) {
+		checkBounds(dst.length, offset, 2);
+		final Probe probe = acquire();
+		try {
+			probe.stripe.factory.createInto(dst, offset);
+		} finally {
+			probe.release();
+		}
+	}
+
+	private Probe acquire() {
+
+		final Probe probe = this.probes.get();
+
+		if (this.affinity) {
+			// the thread always uses the same stripe
+			probe.stripe = stripe(probe.hash & (this.maxStripes - 1));
+			return probe;
+		}
+
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			final int n = this.size.get();
+			final Stripe stripe = stripe(probe.hash & (n - 1));
+			if (stripe.tryAcquire()) {
+				probe.stripe = stripe;
+				probe.owner = true;
+				return probe;
+			}
+			// the stripe is busy: add stripes and move to another one
+			if (n < this.maxStripes) {
+				this.size.compareAndSet(n, n << 1);
+			}
+			probe.advance();
+		}
+
+		// all stripes are busy: share one of them
+		probe.stripe = stripe(probe.hash & (this.size.get() - 1));
+		return probe;
+	}
+
+	private Stripe stripe(final int index) {
+
+		final Stripe stripe = this.stripes.get(index);
+		if (stripe != null) {
+			return stripe;
+		}
+
+		// lazy loading stripe, created outside any lock
+		final Stripe created = new Stripe(Objects.requireNonNull(this.supplier.get(), "Null factory"));
+		if (this.stripes.compareAndSet(index, null, created)) {
+			return created;
+		}
+
+		// another thread won the race
+		return this.stripes.get(index);
+	}
+
+	private static final class Probe {
+
+		private int hash;
+		private Stripe stripe;
+		private boolean owner;
+
+		private Probe() {
+			// multiplicative hash of the thread ID
+			final long h = Thread.currentThread().getId() * 0x9e3779b97f4a7c15L;
+			this.hash = (int) (h >>> 32) | 1; // never zero
+		}
+
+		private void advance() {
+			// xorshift
+			int h = this.hash;
+			h ^= h << 13;
+			h ^= h >>> 17;
+			h ^= h << 5;
+			this.hash = h;
+		}
+
+		private void release() {
+			if (this.owner) {
+				this.owner = false;
+				this.stripe.release();
+			}
+		}
+	}
+
+	private static class StripeLeftPadding {
+		long p01, p02, p03, p04, p05, p06, p07;
+	}
+
+	private static class StripeFields extends StripeLeftPadding {
+
+		private static final AtomicIntegerFieldUpdater<StripeFields> BUSY = AtomicIntegerFieldUpdater
+				.newUpdater(StripeFields.class, "busy");
+
+		final UuidFactory factory;
+		volatile int busy;
+
+		StripeFields(UuidFactory factory) {
+			this.factory = factory;
+		}
+
+		final boolean tryAcquire() {
+			return this.busy == 0 && BUSY.compareAndSet(this, 0, 1);
+		}
+
+		final void release() {
+			BUSY.lazySet(this, 0);
+		}
+	}
+
+	/**
+	 * Stripe padded to avoid false sharing between the busy flags.
+	 */
+	private static final class Stripe extends StripeFields {
+
+		long p11, p12, p13, p14, p15, p16, p17;
+
+		Stripe(UuidFactory factory) {
+			super(factory);
+		}
+	}
+}
@@ -24,6 +24,10 @@
 
 package com.github.f4b6a3.uuid.factory;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
@@ -36,6 +40,7 @@ import com.github.f4b6a3.uuid.enums.UuidLocalDomain;
 import com.github.f4b6a3.uuid.enums.UuidNamespace;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.factory.function.UuidConsumer;
 
 /**
  * Abstract factory that is base for all UUID factories.
@@ -52,6 +57,11 @@ public abstract class UuidFactory {
 	 */
 	protected final long versionMask;
 
+	/**
+	 * Thread local array for receiving the bits of a UUID.
+	 */
+	private static final ThreadLocal<long[]> BITS = ThreadLocal.withInitial(() -> new long[2]);
+
 	/**
 	 * Default Constructor.
 	 * <p>
@@ -96,6 +106,157 @@ public abstract class UuidFactory {
 	 */
 	public abstract UUID create(Parameters parameters);
 
+	/**
+	 * Creates an array of UUIDs.
+	 * 
+	 * @param count the number of UUIDs
+	 * @return an array of UUIDs
+	 * @throws IllegalArgumentException if the count is negative
+	 */
+	public UUID[] createBatch(int count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Invalid count");
+		}
+		final UUID[] uuids = new UUID[count];
+		createBatch(uuids, 0, count);
+		return uuids;
+	}
+
+	/**
+	 * Fills a range of an array with UUIDs.
+	 * <p>
+	 * The default implementation calls {@link UuidFactory#create()} for each
+	 * element. Factories that can amortize their costs over many UUIDs override it.
+	 * 
+	 * @param uuids  an array of UUIDs
+	 * @param offset the index of the first element to be filled
+	 * @param length the number of elements to be filled
+	 * @throws IndexOutOfBoundsException if the range is out of the array bounds
+	 */
+	public void createBatch(UUID[] uuids, int offset, int length) {
+		checkBounds(uuids.length, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			uuids[i] = create();
+		}
+	}
+
+	/**
+	 * Creates a UUID and writes its bits into an array.
+	 * <p>
+	 * The most significant bits are written at the offset and the least
+	 * significant bits are written at the next position.
+	 * <p>
+	 * The default implementation calls {@link UuidFactory#create()}. Factories that
+	 * can create UUIDs without allocating {@link UUID} instances override it.
+	 * 
+	 * @param dst    an array of longs
+	 * @param offset the index of the most significant bits
+	 * @throws IndexOutOfBoundsException if there are less than 2 positions after
+	 *                                   the offset
+	 */
+	public void createInto(long[] dst, int offset) {
+		checkBounds(dst.length, offset, 2);
+		final UUID uuid = create();
+		dst[offset] = uuid.getMostSignificantBits();
+		dst[offset + 1] = uuid.getLeastSignificantBits();
+	}
+
+	/**
+	 * Creates a UUID and writes its bits into a buffer.
+	 * <p>
+	 * The most significant bits and the least significant bits are written at the
+	 * current position, which is then incremented by 2.
+	 * 
+	 * @param dst a buffer of longs
+	 * @throws BufferOverflowException if there are less than 2 longs remaining in
+	 *                                 the buffer
+	 */
+	public void createInto(LongBuffer dst) {
+		if (dst.remaining() < 2) {
+			throw new BufferOverflowException();
+		}
+		final long[] bits = BITS.get();
+		createInto(bits, 0);
+		dst.put(bits[0]).put(bits[1]);
+	}
+
+	/**
+	 * Creates a UUID and writes its 16 bytes into an array.
+	 * <p>
+	 * The bytes are written in big-endian order, as in
+	 * {@link StandardBinaryCodec}, with the version and variant bits applied.
+	 * 
+	 * @param dst    an array of bytes
+	 * @param offset the index of the first byte
+	 * @throws IndexOutOfBoundsException if there are less than 16 positions after
+	 *                                   the offset
+	 */
+	public void createInto(byte[] dst, int offset) {
+
+		checkBounds(dst.length, offset, 16);
+
+		final long[] bits = BITS.get();
+		createInto(bits, 0);
+		final long msb = bits[0];
+		final long lsb = bits[1];
+
+		dst[offset + 0x0] = (byte) (msb >>> 56);
+		dst[offset + 0x1] = (byte) (msb >>> 48);
+		dst[offset + 0x2] = (byte) (msb >>> 40);
+		dst[offset + 0x3] = (byte) (msb >>> 32);
+		dst[offset + 0x4] = (byte) (msb >>> 24);
+		dst[offset + 0x5] = (byte) (msb >>> 16);
+		dst[offset + 0x6] = (byte) (msb >>> 8);
+		dst[offset + 0x7] = (byte) (msb);
+
+		dst[offset + 0x8] = (byte) (lsb >>> 56);
+		dst[offset + 0x9] = (byte) (lsb >>> 48);
+		dst[offset + 0xa] = (byte) (lsb >>> 40);
+		dst[offset + 0xb] = (byte) (lsb >>> 32);
+		dst[offset + 0xc] = (byte) (lsb >>> 24);
+		dst[offset + 0xd] = (byte) (lsb >>> 16);
+		dst[offset + 0xe] = (byte) (lsb >>> 8);
+		dst[offset + 0xf] = (byte) (lsb);
+	}
+
+	/**
+	 * Creates a UUID and writes its 16 bytes into a buffer.
+	 * <p>
+	 * The bytes are written at the current position in big-endian order,
+	 * regardless of the buffer's byte order. The position is then incremented by
+	 * 16. Both heap and direct buffers are written without intermediate copies.
+	 * 
+	 * @param dst a buffer of bytes
+	 * @throws BufferOverflowException if there are less than 16 bytes remaining in
+	 *                                 the buffer
+	 */
+	public void createInto(ByteBuffer dst) {
+
+		if (dst.remaining() < 16) {
+			throw new BufferOverflowException();
+		}
+
+		final long[] bits = BITS.get();
+		createInto(bits, 0);
+
+		if (dst.order() == ByteOrder.BIG_ENDIAN) {
+			dst.putLong(bits[0]).putLong(bits[1]);
+		} else {
+			dst.putLong(Long.reverseBytes(bits[0])).putLong(Long.reverseBytes(bits[1]));
+		}
+	}
+
+	/**
+	 * Creates a UUID and passes its bits to a consumer.
+	 * 
+	 * @param consumer a function that receives the bits
+	 */
+	public void createInto(UuidConsumer consumer) {
+		final long[] bits = BITS.get();
+		createInto(bits, 0);
+		consumer.accept(bits[0], bits[1]);
+	}
+
 	/**
 	 * Parameters object to be used with a {@link UuidFactory#create(Parameters)}.
 	 */
@@ -400,6 +561,21 @@ public abstract class UuidFactory {
 		return null; // the name space can be null
 	}
 
+	/**
+	 * Checks if a range is within the bounds of an array.
+	 * 
+	 * @param size   the array size
+	 * @param offset the index of the first element of the range
+	 * @param length the number of elements of the range
+	 * @throws IndexOutOfBoundsException if the range is out of the array bounds
+	 */
+	protected static void checkBounds(final int size, final int offset, final int length) {
+		if (offset < 0 || length < 0 || offset > size - length) {
+			throw new IndexOutOfBoundsException(
+					String.format("Range [%d, %d + %d) out of bounds for length %d", offset, offset, length, size));
+		}
+	}
+
 	/**
 	 * Creates a UUID from a pair of numbers.
 	 * <p>
@@ -414,4 +590,19 @@ public abstract class UuidFactory {
 		final long lsb0 = (lsb & 0x3fffffffffffffffL) | 0x8000000000000000L; // set variant
 		return new UUID(msb0, lsb0);
 	}
+
+	/**
+	 * Writes a pair of numbers into an array.
+	 * <p>
+	 * It applies the version and variant numbers to the written numbers.
+	 * 
+	 * @param msb    the most significant bits
+	 * @param lsb    the least significant bits
+	 * @param dst    an array of longs
+	 * @param offset the index of the most significant bits
+	 */
+	protected void toLongs(final long msb, final long lsb, final long[] dst, final int offset) {
+		dst[offset] = (msb & 0xffffffffffff0fffL) | this.versionMask; // set version
+		dst[offset + 1] = (lsb & 0x3fffffffffffffffL) | 0x8000000000000000L; // set variant
+	}
 }
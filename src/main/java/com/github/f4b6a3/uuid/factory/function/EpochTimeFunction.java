@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Function that must return a number of milliseconds since 1970-01-01 (Unix
+ * epoch) shifted left by 12 bits, with the fraction of the millisecond in the
+ * lower 12 bits.
+ * <p>
+ * The fraction is a number of 1/4096 milliseconds, that is, about 244
+ * nanoseconds. It is the same layout as the fields {@code unix_ts_ms} and
+ * {@code rand_a} of a UUIDv7, so no {@link Instant} has to be created to read
+ * the time.
+ * <p>
+ * Example:
+ * 
+ * <pre>{@code
+ * // A function that returns `System.currentTimeMillis()` with no fraction
+ * EpochTimeFunction f = () -> System.currentTimeMillis() << 12;
+ * }</pre>
+ * 
+ * <p>
+ * The milliseconds are kept in 52 bits, which is more than enough for the 48
+ * bits of UUIDv7 and COMB GUIDs.
+ */
+@FunctionalInterface
+public interface EpochTimeFunction extends LongSupplier {
+
+	/**
+	 * Returns a function that reads the time from a clock.
+	 * 
+	 * @param clock a clock
+	 * @return a function
+	 */
+	static EpochTimeFunction ofClock(final Clock clock) {
+		return () -> toEpochTime(clock.instant());
+	}
+
+	/**
+	 * Returns a function that reads the time from an instant function.
+	 * 
+	 * @param instantFunction a function that returns instants
+	 * @return a function
+	 */
+	static EpochTimeFunction ofInstant(final Supplier<Instant> instantFunction) {
+		return () -> toEpochTime(instantFunction.get());
+	}
+
+	/**
+	 * Returns a function that reads the time from a millisecond function.
+	 * <p>
+	 * The fraction of the millisecond is always zero.
+	 * 
+	 * @param millisFunction a function that returns milliseconds since 1970-01-01
+	 * @return a function
+	 */
+	static EpochTimeFunction ofMillis(final LongSupplier millisFunction) {
+		return () -> millisFunction.getAsLong() << 12;
+	}
+
+	/**
+	 * Converts an instant to a number of milliseconds shifted left by 12 bits,
+	 * with the fraction of the millisecond in the lower 12 bits.
+	 * 
+	 * @param instant an instant
+	 * @return the epoch time
+	 */
+	static long toEpochTime(final Instant instant) {
+		return toEpochTime(instant.toEpochMilli(), instant.getNano());
+	}
+
+	/**
+	 * Converts milliseconds and nanoseconds to a number of milliseconds shifted
+	 * left by 12 bits, with the fraction of the millisecond in the lower 12 bits.
+	 * 
+	 * @param millis the milliseconds since 1970-01-01
+	 * @param nanos  the nanoseconds within the current second
+	 * @return the epoch time
+	 */
+	static long toEpochTime(final long millis, final long nanos) {
+		final long scale = 1_000_000L;
+		return (millis << 12) | (((nanos % scale) << 12) / scale);
+	}
+
+	/**
+	 * Returns the milliseconds since 1970-01-01.
+	 * 
+	 * @param time an epoch time
+	 * @return the milliseconds
+	 */
+	static long toMillis(final long time) {
+		return time >> 12;
+	}
+
+	/**
+	 * Returns the fraction of the millisecond, a number between 0 and 4095.
+	 * 
+	 * @param time an epoch time
+	 * @return the fraction of the millisecond
+	 */
+	static long toFraction(final long time) {
+		return time & 0x0fffL;
+	}
+
+	/**
+	 * Converts a number of milliseconds shifted left by 12 bits to an instant.
+	 * 
+	 * @param time an epoch time
+	 * @return an instant
+	 */
+	static Instant toInstant(final long time) {
+		final long nanos = (toFraction(time) * 1_000_000L) >>> 12;
+		return Instant.ofEpochMilli(toMillis(time)).plusNanos(nanos);
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function;
+
+import java.util.function.LongSupplier;
+
+import com.github.f4b6a3.uuid.factory.function.impl.BorrowOverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.FailOverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.ParkOverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.SpinOverflowPolicy;
+
+/**
+ * Function that decides what to do when all the values of the current tick are
+ * exhausted.
+ * <p>
+ * It receives the exhausted tick and a function that reads the current tick from
+ * the clock. It must return a tick greater than the exhausted tick or throw an
+ * exception.
+ * <p>
+ * The tick is an opaque unit defined by the caller. A policy must only compare
+ * it with the ticks returned by the clock function, or add 1 to it. The built-in
+ * callers use these units:
+ * <ul>
+ * <li>{@link com.github.f4b6a3.uuid.factory.function.impl.DefaultTimeFunction}:
+ * milliseconds;
+ * <li>{@link com.github.f4b6a3.uuid.factory.function.impl.WindowsTimeFunction}:
+ * granules of 16 milliseconds;
+ * <li>the lock-free, striped and spill engines of time-based factories: time
+ * stamps of 100 nanoseconds;
+ * <li>UUIDv7 factories: milliseconds, or 1/4096 milliseconds with
+ * sub-millisecond precision.
+ * </ul>
+ * <p>
+ * So borrowing 1 tick means a different amount of time for each caller. The
+ * maximum wait of {@link SpinOverflowPolicy} and {@link ParkOverflowPolicy} is a
+ * duration and their metrics are in nanoseconds, whatever the unit of the
+ * ticks.
+ * <p>
+ * The default policy is {@link #borrow()}, that returns the next tick even if it
+ * is ahead of the clock.
+ * <p>
+ * Example:
+ * 
+ * <pre>{@code
+ * // A policy that waits until the clock reaches the next tick
+ * OverflowPolicy p = OverflowPolicy.spin();
+ * }</pre>
+ * 
+ * @see BorrowOverflowPolicy
+ * @see SpinOverflowPolicy
+ * @see ParkOverflowPolicy
+ * @see FailOverflowPolicy
+ */
+@FunctionalInterface
+public interface OverflowPolicy {
+
+	/**
+	 * Returns a tick greater than the exhausted tick.
+	 * 
+	 * @param tick  the exhausted tick, in a unit defined by the caller
+	 * @param clock a function that returns the current tick, in the same unit
+	 * @return a tick greater than the exhausted tick
+	 * @throws IllegalStateException if no tick can be returned
+	 */
+	long apply(long tick, LongSupplier clock);
+
+	/**
+	 * Returns a new policy that borrows the next tick from the future.
+	 * 
+	 * @return a policy
+	 */
+	static BorrowOverflowPolicy borrow() {
+		return new BorrowOverflowPolicy();
+	}
+
+	/**
+	 * Returns a new policy that spins until the clock reaches the next tick.
+	 * 
+	 * @return a policy
+	 */
+	static SpinOverflowPolicy spin() {
+		return new SpinOverflowPolicy();
+	}
+
+	/**
+	 * Returns a new policy that parks until the clock reaches the next tick.
+	 * 
+	 * @return a policy
+	 */
+	static ParkOverflowPolicy park() {
+		return new ParkOverflowPolicy();
+	}
+
+	/**
+	 * Returns a new policy that throws an exception.
+	 * 
+	 * @return a policy
+	 */
+	static FailOverflowPolicy fail() {
+		return new FailOverflowPolicy();
+	}
+}
@@ -32,4 +32,14 @@ import java.util.function.IntFunction;
 @FunctionalInterface
 public interface RandomFunction extends IntFunction<byte[]> {
 
+	/**
+	 * Check if the function can be called by many threads at the same time.
+	 * <p>
+	 * Factories call a thread-safe function without a lock.
+	 * 
+	 * @return true if thread-safe
+	 */
+	default boolean isThreadSafe() {
+		return false;
+	}
 }
\ No newline at end of file
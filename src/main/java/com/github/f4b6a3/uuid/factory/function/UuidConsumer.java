@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function;
+
+/**
+ * Function that receives the most and least significant bits of a UUID.
+ * <p>
+ * It is used to create UUIDs without allocating {@link java.util.UUID}
+ * instances.
+ * <p>
+ * Example:
+ * 
+ * <pre>{@code
+ * // A function that writes the UUID bits into an off-heap record
+ * UuidConsumer f = (msb, lsb) -> record.putLong(0, msb).putLong(8, lsb);
+ * }</pre>
+ * 
+ * @see com.github.f4b6a3.uuid.factory.UuidFactory#createInto(UuidConsumer)
+ */
+@FunctionalInterface
+public interface UuidConsumer {
+
+	/**
+	 * Receives the bits of a UUID.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 */
+	void accept(long msb, long lsb);
+}
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
+
+/**
+ * Abstract policy that counts how many times it is applied.
+ * 
+ * @see OverflowPolicy
+ */
+public abstract class AbstOverflowPolicy implements OverflowPolicy {
+
+	private final LongAdder count = new LongAdder();
+
+	@Override
+	public final long apply(final long tick, final LongSupplier clock) {
+		count.increment();
+		return overflow(tick, clock);
+	}
+
+	/**
+	 * Returns a tick greater than the exhausted tick.
+	 * 
+	 * @param tick  the exhausted tick
+	 * @param clock a function that returns the current tick
+	 * @return a tick greater than the exhausted tick
+	 * @throws IllegalStateException if no tick can be returned
+	 */
+	protected abstract long overflow(long tick, LongSupplier clock);
+
+	/**
+	 * Returns how many times the policy was applied.
+	 * 
+	 * @return a count
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+}
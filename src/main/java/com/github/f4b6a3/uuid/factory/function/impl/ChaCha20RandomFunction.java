@@ -0,0 +1,255 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+import com.github.f4b6a3.uuid.factory.function.RandomFunction;
+import com.github.f4b6a3.uuid.util.internal.RandomUtil;
+
+/**
+ * Function that returns random bytes generated by the ChaCha20 stream cipher.
+ * <p>
+ * Each thread has its own generator, keyed with 256 bits and a 96-bit nonce
+ * taken from a {@link java.security.SecureRandom}. The generator produces the
+ * ChaCha20 keystream of RFC 8439 one 64-byte block at a time and is keyed
+ * again after a given number of bytes.
+ * <p>
+ * It is much faster than {@link DefaultRandomFunction} for small requests,
+ * because it doesn't need synchronization.
+ * <p>
+ * It also implements {@link LongSupplier}, so it can be passed to the builders
+ * of random-based factories:
+ * 
+ * <pre>{@code
+ * RandomBasedFactory factory = RandomBasedFactory.builder() //
+ * 		.withRandomFunction(new ChaCha20RandomFunction()) //
+ * 		.build();
+ * }</pre>
+ * 
+ * @see RandomFunction
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc8439.html">RFC 8439</a>
+ */
+public final class ChaCha20RandomFunction implements RandomFunction, LongSupplier {
+
+	private final long reseedBytes;
+	private final ThreadLocal<Generator> generators;
+
+	// "expand 32-byte k" in little-endian
+	private static final int[] CONSTANTS = { 0x61707865, 0x3320646e, 0x79622d32, 0x6b206574 };
+
+	private static final int KEY_BYTES = 32;
+	private static final int NONCE_BYTES = 12;
+	private static final int BLOCK_BYTES = 64;
+	private static final int BLOCK_INTS = 16;
+
+	private static final long DEFAULT_RESEED_BYTES = 1L << 24; // 16 MB
+	private static final long RESEED_BYTES_MAX = 1L << 38; // 2^32 blocks
+
+	/**
+	 * Default constructor.
+	 * <p>
+	 * Each thread is keyed again after 2^24 bytes.
+	 */
+	public ChaCha20RandomFunction() {
+		this(DEFAULT_RESEED_BYTES);
+	}
+
+	/**
+	 * Constructor with a reseed interval.
+	 * 
+	 * @param reseedBytes the number of bytes generated before a new key, from 64
+	 *                    to 2^38
+	 * @throws IllegalArgumentException if the reseed interval is out of range
+	 */
+	public ChaCha20RandomFunction(long reseedBytes) {
+		if (reseedBytes < BLOCK_BYTES || reseedBytes > RESEED_BYTES_MAX) {
+			throw new IllegalArgumentException(String.format("Invalid reseed bytes: %d", reseedBytes));
+		}
+		this.reseedBytes = reseedBytes;
+		this.generators = ThreadLocal.withInitial(Generator::new);
+	}
+
+	@Override
+	public boolean isThreadSafe() {
+		// each thread has its own generator
+		return true;
+	}
+
+	@Override
+	public long getAsLong() {
+		return generators.get().nextLong();
+	}
+
+	@Override
+	public byte[] apply(final int length) {
+		final byte[] bytes = new byte[length];
+		generators.get().nextBytes(bytes);
+		return bytes;
+	}
+
+	private final class Generator {
+
+		private final int[] state = new int[BLOCK_INTS];
+		private final int[] block = new int[BLOCK_INTS];
+		private int position = BLOCK_INTS; // empty
+		private long generated = 0;
+
+		private Generator() {
+			reseed();
+		}
+
+		private void reseed() {
+
+			final byte[] seed = RandomUtil.nextBytes(KEY_BYTES + NONCE_BYTES);
+
+			System.arraycopy(CONSTANTS, 0, state, 0, CONSTANTS.length);
+			for (int i = 0; i < 8; i++) {
+				state[4 + i] = littleEndian(seed, i * 4); // key
+			}
+			state[12] = 0; // block counter
+			for (int i = 0; i < 3; i++) {
+				state[13 + i] = littleEndian(seed, KEY_BYTES + i * 4); // nonce
+			}
+
+			Arrays.fill(seed, (byte) 0);
+			this.generated = 0;
+			this.position = BLOCK_INTS;
+		}
+
+		private int nextInt() {
+			if (position == BLOCK_INTS) {
+				if (generated >= reseedBytes) {
+					reseed();
+				}
+				block(state, block);
+				state[12]++; // next block
+				generated += BLOCK_BYTES;
+				position = 0;
+			}
+			return block[position++];
+		}
+
+		private long nextLong() {
+			return ((long) nextInt() << 32) | (nextInt() & 0xffffffffL);
+		}
+
+		private void nextBytes(final byte[] bytes) {
+			for (int i = 0; i < bytes.length;) {
+				// serialized in little-endian order
+				int word = nextInt();
+				for (int j = 0; j < Integer.BYTES && i < bytes.length; j++) {
+					bytes[i++] = (byte) word;
+					word >>>= Byte.SIZE;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes a ChaCha20 block as described in RFC 8439, section 2.3.
+	 * 
+	 * @param input  the state: constants, key, block counter and nonce
+	 * @param output the resulting block
+	 */
+	static void block(final int[] input, final int[] output) {
+
+		// local variables instead of array slots, for speed
+		int x0 = input[0], x1 = input[1], x2 = input[2], x3 = input[3];
+		int x4 = input[4], x5 = input[5], x6 = input[6], x7 = input[7];
+		int x8 = input[8], x9 = input[9], x10 = input[10], x11 = input[11];
+		int x12 = input[12], x13 = input[13], x14 = input[14], x15 = input[15];
+
+		for (int i = 0; i < 10; i++) {
+
+			// column round: quarter round on (0, 4, 8, 12)
+			x0 += x4; x12 = Integer.rotateLeft(x12 ^ x0, 16);
+			x8 += x12; x4 = Integer.rotateLeft(x4 ^ x8, 12);
+			x0 += x4; x12 = Integer.rotateLeft(x12 ^ x0, 8);
+			x8 += x12; x4 = Integer.rotateLeft(x4 ^ x8, 7);
+			// column round: quarter round on (1, 5, 9, 13)
+			x1 += x5; x13 = Integer.rotateLeft(x13 ^ x1, 16);
+			x9 += x13; x5 = Integer.rotateLeft(x5 ^ x9, 12);
+			x1 += x5; x13 = Integer.rotateLeft(x13 ^ x1, 8);
+			x9 += x13; x5 = Integer.rotateLeft(x5 ^ x9, 7);
+			// column round: quarter round on (2, 6, 10, 14)
+			x2 += x6; x14 = Integer.rotateLeft(x14 ^ x2, 16);
+			x10 += x14; x6 = Integer.rotateLeft(x6 ^ x10, 12);
+			x2 += x6; x14 = Integer.rotateLeft(x14 ^ x2, 8);
+			x10 += x14; x6 = Integer.rotateLeft(x6 ^ x10, 7);
+			// column round: quarter round on (3, 7, 11, 15)
+			x3 += x7; x15 = Integer.rotateLeft(x15 ^ x3, 16);
+			x11 += x15; x7 = Integer.rotateLeft(x7 ^ x11, 12);
+			x3 += x7; x15 = Integer.rotateLeft(x15 ^ x3, 8);
+			x11 += x15; x7 = Integer.rotateLeft(x7 ^ x11, 7);
+
+			// diagonal round: quarter round on (0, 5, 10, 15)
+			x0 += x5; x15 = Integer.rotateLeft(x15 ^ x0, 16);
+			x10 += x15; x5 = Integer.rotateLeft(x5 ^ x10, 12);
+			x0 += x5; x15 = Integer.rotateLeft(x15 ^ x0, 8);
+			x10 += x15; x5 = Integer.rotateLeft(x5 ^ x10, 7);
+			// diagonal round: quarter round on (1, 6, 11, 12)
+			x1 += x6; x12 = Integer.rotateLeft(x12 ^ x1, 16);
+			x11 += x12; x6 = Integer.rotateLeft(x6 ^ x11, 12);
+			x1 += x6; x12 = Integer.rotateLeft(x12 ^ x1, 8);
+			x11 += x12; x6 = Integer.rotateLeft(x6 ^ x11, 7);
+			// diagonal round: quarter round on (2, 7, 8, 13)
+			x2 += x7; x13 = Integer.rotateLeft(x13 ^ x2, 16);
+			x8 += x13; x7 = Integer.rotateLeft(x7 ^ x8, 12);
+			x2 += x7; x13 = Integer.rotateLeft(x13 ^ x2, 8);
+			x8 += x13; x7 = Integer.rotateLeft(x7 ^ x8, 7);
+			// diagonal round: quarter round on (3, 4, 9, 14)
+			x3 += x4; x14 = Integer.rotateLeft(x14 ^ x3, 16);
+			x9 += x14; x4 = Integer.rotateLeft(x4 ^ x9, 12);
+			x3 += x4; x14 = Integer.rotateLeft(x14 ^ x3, 8);
+			x9 += x14; x4 = Integer.rotateLeft(x4 ^ x9, 7);
+		}
+
+		output[0] = x0 + input[0];
+		output[1] = x1 + input[1];
+		output[2] = x2 + input[2];
+		output[3] = x3 + input[3];
+		output[4] = x4 + input[4];
+		output[5] = x5 + input[5];
+		output[6] = x6 + input[6];
+		output[7] = x7 + input[7];
+		output[8] = x8 + input[8];
+		output[9] = x9 + input[9];
+		output[10] = x10 + input[10];
+		output[11] = x11 + input[11];
+		output[12] = x12 + input[12];
+		output[13] = x13 + input[13];
+		output[14] = x14 + input[14];
+		output[15] = x15 + input[15];
+	}
+
+	private static int littleEndian(final byte[] bytes, final int offset) {
+		return (bytes[offset] & 0xff) //
+				| ((bytes[offset + 1] & 0xff) << 8) //
+				| ((bytes[offset + 2] & 0xff) << 16) //
+				| ((bytes[offset + 3] & 0xff) << 24);
+	}
+}
@@ -24,8 +24,9 @@
 
 package com.github.f4b6a3.uuid.factory.function.impl;
 
-import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import com.github.f4b6a3.uuid.factory.function.ClockSeqFunction;
 
@@ -39,10 +40,20 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 	private AtomicInteger sequence;
 	private long lastTimestamp = -1;
 
+	/**
+	 * The pool of clock sequence numbers leased to threads.
+	 * <p>
+	 * It is never cleared, so a leased value is not given to anyone else until it
+	 * is released.
+	 */
+	protected static final ClockSeqPool LEASES = new ClockSeqPool();
+
 	/**
 	 * The pool of clock sequence numbers.
+	 * <p>
+	 * It skips the values leased to threads.
 	 */
-	protected static final ClockSeqPool POOL = new ClockSeqPool();
+	protected static final ClockSeqPool POOL = new ClockSeqPool(LEASES);
 
 	/**
 	 * Default constructor.
@@ -74,19 +85,71 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 		return this.sequence.updateAndGet(POOL::take);
 	}
 
+	/**
+	 * Takes a free clock sequence from the pool of leases.
+	 * <p>
+	 * The value is held until it is returned with {@link #release(int)}. It is
+	 * not given to another lease or to another clock sequence function in the
+	 * meantime.
+	 * 
+	 * @return a clock sequence
+	 * @throws IllegalStateException if all clock sequences are leased
+	 */
+	public static int lease() {
+		final int clockseq = LEASES.tryTake(ThreadLocalRandom.current().nextInt(ClockSeqPool.POOL_SIZE));
+		if (clockseq < 0) {
+			throw new IllegalStateException("All clock sequences are leased");
+		}
+		return clockseq;
+	}
+
+	/**
+	 * Returns a clock sequence to the pool of leases.
+	 * 
+	 * @param clockseq a clock sequence taken with {@link #lease()}
+	 */
+	public static void release(final int clockseq) {
+		LEASES.release(clockseq);
+	}
+
 	/**
 	 * Nested class that manages a pool of 16384 clock sequence values.
 	 * <p>
-	 * The pool is implemented as an array of 2048 bytes (16384 bits). Each bit of
-	 * the array corresponds to a clock sequence value.
+	 * The pool is implemented as an array of 256 atomic longs (16384 bits). Each
+	 * bit of the array corresponds to a clock sequence value.
 	 * <p>
 	 * It is used to avoid that two time-based factories use the same clock sequence
 	 * at same time in a class loader.
+	 * <p>
+	 * It is lock-free. A value is taken by setting its bit with a compare-and-set
+	 * on the whole word, so many factories can be created at the same time without
+	 * waiting for each other.
 	 */
 	static final class ClockSeqPool {
 
-		private final byte[] pool = new byte[2048];
 		private static final int POOL_SIZE = 16384; // 2^14 = 16384
+		private static final int WORDS = POOL_SIZE / Long.SIZE; // 256
+
+		private final AtomicLongArray pool = new AtomicLongArray(WORDS);
+
+		// the values this pool must skip, or null
+		private final ClockSeqPool reserved;
+
+		/**
+		 * Default constructor.
+		 */
+		ClockSeqPool() {
+			this(null);
+		}
+
+		/**
+		 * Constructor that skips the values used in another pool.
+		 * 
+		 * @param reserved a pool whose used values are not taken
+		 */
+		ClockSeqPool(ClockSeqPool reserved) {
+			this.reserved = reserved;
+		}
 
 		/**
 		 * The minimum pool size, which is zero.
@@ -104,25 +167,77 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 		 * If the value to be taken is already in use, it is incremented until a free
 		 * value is found and returned.
 		 * <p>
-		 * In the case that all pool values are in use, the pool is cleared and the last
-		 * incremented value is returned.
+		 * In the case that all pool values are in use, the pool is cleared and the
+		 * search is repeated. If all values are reserved, the argument is returned.
 		 * <p>
-		 * It does nothing to negative arguments.
+		 * Negative arguments are treated as zero.
 		 * 
 		 * @param take value to be taken from the pool
 		 * @return the value to be borrowed if not used
 		 */
-		public synchronized int take(final int take) {
-			int value = take;
-			for (int i = 0; i < POOL_SIZE; i++) {
-				if (setBit(value)) {
-					return value;
+		public int take(final int take) {
+
+			final int value = take < 0 ? 0 : take % POOL_SIZE;
+
+			int taken = tryTake(value);
+			if (taken < 0) {
+				clearPool();
+				taken = tryTake(value);
+			}
+
+			if (taken < 0) {
+				setBit(value);
+				return value;
+			}
+			return taken;
+		}
+
+		/**
+		 * Take a value from the pool without clearing it.
+		 * <p>
+		 * If the value to be taken is already in use or reserved, it is incremented
+		 * until a free value is found and returned.
+		 * <p>
+		 * Negative arguments are treated as zero.
+		 * 
+		 * @param take value to be taken from the pool
+		 * @return the value taken, or -1 if all values are in use
+		 */
+		public int tryTake(final int take) {
+
+			final int value = take < 0 ? 0 : take % POOL_SIZE;
+			final int first = value >>> 6;
+
+			// the first word is visited twice: first the bits from the
+			// value onwards, then, after wrapping around, all the others
+			long mask = -1L << value;
+			for (int i = 0; i <= WORDS; i++) {
+				final int index = (first + i) % WORDS;
+				while (true) {
+					final long word = pool.get(index);
+					final long free = ~(word | reservedWord(index)) & mask;
+					if (free == 0) {
+						break; // the word is full
+					}
+					final long bit = Long.lowestOneBit(free);
+					if (pool.compareAndSet(index, word, word | bit)) {
+						return (index << 6) + Long.numberOfTrailingZeros(bit);
+					}
 				}
-				value = ++value % POOL_SIZE;
+				mask = -1L;
 			}
-			clearPool();
-			setBit(value);
-			return value;
+
+			return -1;
+		}
+
+		/**
+		 * Returns a word of the reserved pool, or zero if there is none.
+		 * 
+		 * @param index the index of the word
+		 * @return the reserved bits
+		 */
+		private long reservedWord(final int index) {
+			return this.reserved == null ? 0L : this.reserved.pool.get(index);
 		}
 
 		/**
@@ -130,14 +245,13 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 		 * 
 		 * @return the random value to be borrowed if not used
 		 */
-		public synchronized int random() {
+		public int random() {
 			// Choose a random number between 0 and 16383
-			int random = Math.abs(new SplittableRandom().nextInt()) % POOL_SIZE;
-			return this.take(random);
+			return this.take(ThreadLocalRandom.current().nextInt(POOL_SIZE));
 		}
 
 		/**
-		 * Set a bit from the byte array that represents the pool.
+		 * Set a bit from the array that represents the pool.
 		 * <p>
 		 * This operation corresponds to setting a value as used.
 		 * <p>
@@ -148,24 +262,34 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 		 * @param value the value to be taken from the pool
 		 * @return true if success
 		 */
-		private synchronized boolean setBit(int value) {
+		private boolean setBit(int value) {
 
 			if (value < 0) {
 				return false;
 			}
 
-			final int byteIndex = value / 8;
-			final int bitIndex = value % 8;
+			final long mask = 1L << value;
+			final long word = pool.getAndUpdate(value >>> 6, w -> w | mask);
+			return (word & mask) == 0;
+		}
 
-			final int mask = (0x00000001 << bitIndex);
-			final boolean clear = (pool[byteIndex] & mask) == 0;
+		/**
+		 * Return a value to the pool.
+		 * <p>
+		 * This operation corresponds to setting a value as free.
+		 * <p>
+		 * It does nothing to values out of the pool range.
+		 * 
+		 * @param value the value to be returned to the pool
+		 */
+		public void release(int value) {
 
-			if (clear) {
-				pool[byteIndex] = (byte) (pool[byteIndex] | mask);
-				return true;
+			if (value < POOL_MIN || value > POOL_MAX) {
+				return;
 			}
 
-			return false;
+			final long mask = 1L << value;
+			pool.getAndUpdate(value >>> 6, w -> w & ~mask);
 		}
 
 		/**
@@ -174,15 +298,8 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 		 * @param value a value to be checked in the pool
 		 * @return true if the value is used
 		 */
-		public synchronized boolean isUsed(int value) {
-
-			final int byteIndex = value / 8;
-			final int bitIndex = value % 8;
-
-			final int mask = (0x00000001 << bitIndex);
-			boolean clear = (pool[byteIndex] & mask) == 0;
-
-			return !clear;
+		public boolean isUsed(int value) {
+			return (pool.get(value >>> 6) & (1L << value)) != 0;
 		}
 
 		/**
@@ -191,7 +308,7 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 		 * @param value a value to be checked in the pool
 		 * @return true if the value is free
 		 */
-		public synchronized boolean isFree(int value) {
+		public boolean isFree(int value) {
 			return !this.isUsed(value);
 		}
 
@@ -200,12 +317,10 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 		 * 
 		 * @return the count of used values
 		 */
-		public synchronized int countUsed() {
+		public int countUsed() {
 			int counter = 0;
-			for (int i = 0; i < POOL_SIZE; i++) {
-				if (this.isUsed(i)) {
-					counter++;
-				}
+			for (int i = 0; i < WORDS; i++) {
+				counter += Long.bitCount(pool.get(i));
 			}
 			return counter;
 		}
@@ -215,18 +330,18 @@ public final class DefaultClockSeqFunction implements ClockSeqFunction {
 		 * 
 		 * @return the count of free values
 		 */
-		public synchronized int countFree() {
+		public int countFree() {
 			return POOL_SIZE - this.countUsed();
 		}
 
 		/**
-		 * Clear all bits of the byte array that represents the pool.
+		 * Clear all bits of the array that represents the pool.
 		 * <p>
 		 * This corresponds to marking all pool values as free
 		 */
-		public synchronized void clearPool() {
-			for (int i = 0; i < pool.length; i++) {
-				pool[i] = 0;
+		public void clearPool() {
+			for (int i = 0; i < WORDS; i++) {
+				pool.set(i, 0L);
 			}
 		}
 	}
@@ -29,6 +29,7 @@ import static com.github.f4b6a3.uuid.util.UuidTime.TICKS_PER_MILLI;
 import java.time.Clock;
 import java.util.SplittableRandom;
 
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
 import com.github.f4b6a3.uuid.factory.function.TimeFunction;
 
 /**
@@ -36,12 +37,18 @@ import com.github.f4b6a3.uuid.factory.function.TimeFunction;
  * epoch).
  * <p>
  * It can advance 1ms or more ahead of system clock on heavy load.
+ * <p>
+ * By default, it borrows time from the future when the counter of the current
+ * tick is exhausted. Another {@link OverflowPolicy} can be passed to the
+ * constructor.
  * 
  * @see TimeFunction
+ * @see OverflowPolicy
  */
 public final class DefaultTimeFunction implements TimeFunction {
 
 	private final Clock clock;
+	private final OverflowPolicy overflowPolicy;
 
 	private long lastTime = -1;
 
@@ -57,7 +64,7 @@ public final class DefaultTimeFunction implements TimeFunction {
 	 * Default constructor.
 	 */
 	public DefaultTimeFunction() {
-		this.clock = Clock.systemUTC();
+		this(Clock.systemUTC());
 	}
 
 	/**
@@ -66,7 +73,18 @@ public final class DefaultTimeFunction implements TimeFunction {
 	 * @param clock a clock
 	 */
 	public DefaultTimeFunction(Clock clock) {
+		this(clock, new BorrowOverflowPolicy());
+	}
+
+	/**
+	 * Constructor with a clock and an overflow policy.
+	 * 
+	 * @param clock          a clock
+	 * @param overflowPolicy a policy applied when the counter is exhausted
+	 */
+	public DefaultTimeFunction(Clock clock, OverflowPolicy overflowPolicy) {
 		this.clock = clock;
+		this.overflowPolicy = overflowPolicy;
 	}
 
 	@Override
@@ -87,7 +105,8 @@ public final class DefaultTimeFunction implements TimeFunction {
 			// if the time repeats,
 			// check the counter limit
 			if (counter >= counterMax) {
-				time++; // must go ahead of system clock
+				// must go ahead of system clock or wait
+				time = overflowPolicy.apply(time, clock::millis);
 				// reset to a number between 0 and 9,999
 				counter = counter % TICKS_PER_MILLI;
 				// reset to a number between 10,000 and 19,999
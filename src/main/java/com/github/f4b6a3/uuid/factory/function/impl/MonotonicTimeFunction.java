@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.github.f4b6a3.uuid.factory.function.EpochTimeFunction;
+import com.github.f4b6a3.uuid.factory.function.TimeFunction;
+
+/**
+ * Function that returns a number of 100-nanoseconds since 1970-01-01 (Unix
+ * epoch), measured with {@link System#nanoTime()}.
+ * <p>
+ * The monotonic clock is anchored to the wall clock once, and re-anchored
+ * every second by default. Between anchors, the time is the anchor plus the
+ * elapsed {@link System#nanoTime()}. So the ticks are real, even in JDK 8,
+ * where the wall clock has millisecond precision.
+ * <p>
+ * The time never goes backwards. If the wall clock is found behind the
+ * monotonic clock when re-anchoring, e.g. after an NTP step, the difference is
+ * not applied at once. Instead, the time runs slower, at 15/16 of the normal
+ * rate, until the difference is gone. If the wall clock is ahead, the time
+ * jumps forward.
+ * <p>
+ * It is thread-safe. Each call to {@link #getAsLong()} returns a number
+ * greater than the previous one, from any thread, like
+ * {@link DefaultTimeFunction}. The function returned by
+ * {@link #asEpochTimeFunction()} never goes backwards either, but can repeat
+ * numbers.
+ * <p>
+ * It works until the year 2262, when the nanoseconds since 1970-01-01 no
+ * longer fit in a {@code long}.
+ * 
+ * @see TimeFunction
+ * @see EpochTimeFunction
+ */
+public final class MonotonicTimeFunction implements TimeFunction {
+
+	private final Clock clock;
+	private final long period; // nanoseconds
+	private final AtomicReference<Anchor> anchor;
+
+	// the greatest nanoseconds returned so far, shared by all threads
+	private final AtomicLong highWater = new AtomicLong(Long.MIN_VALUE);
+	// the last time returned by `getAsLong()`
+	private final AtomicLong lastTime = new AtomicLong(Long.MIN_VALUE);
+
+	private static final Duration PERIOD_DEFAULT = Duration.ofSeconds(1);
+
+	// the time runs at 15/16 of the rate while slewing
+	private static final int SLEW_SHIFT = 4;
+
+	/**
+	 * Default constructor.
+	 */
+	public MonotonicTimeFunction() {
+		this(Clock.systemUTC());
+	}
+
+	/**
+	 * Constructor with a {@link Clock} instance.
+	 * 
+	 * @param clock a clock
+	 */
+	public MonotonicTimeFunction(Clock clock) {
+		this(clock, PERIOD_DEFAULT);
+	}
+
+	/**
+	 * Constructor with a {@link Clock} instance and a period.
+	 * 
+	 * @param clock  a clock
+	 * @param period the time between two anchors
+	 * @throws IllegalArgumentException if the period is not positive
+	 */
+	public MonotonicTimeFunction(Clock clock, Duration period) {
+		Objects.requireNonNull(clock, "Null clock");
+		Objects.requireNonNull(period, "Null period");
+		if (period.isNegative() || period.isZero()) {
+			throw new IllegalArgumentException("Invalid period: " + period);
+		}
+		this.clock = clock;
+		this.period = period.toNanos();
+		final long mono = System.nanoTime();
+		this.anchor = new AtomicReference<>(new Anchor(wall(), mono, 0L));
+	}
+
+	@Override
+	public long getAsLong() {
+
+		final long time = Math.floorDiv(nanos(), 100L);
+
+		// always increment
+		return lastTime.accumulateAndGet(time, (last, next) -> next > last ? next : last + 1);
+	}
+
+	/**
+	 * Returns a function that reads the time as milliseconds with the fraction of
+	 * the millisecond in the lower 12 bits.
+	 * 
+	 * @return a function
+	 */
+	public EpochTimeFunction asEpochTimeFunction() {
+		return asEpochTimeFunction(true);
+	}
+
+	/**
+	 * Returns a function that reads the time as milliseconds with the fraction of
+	 * the millisecond in the lower 12 bits.
+	 * <p>
+	 * If not shared, the function skips the greatest result shared by all
+	 * threads, so that threads never write to the same memory, except once per
+	 * period to re-anchor the clock. Then it can go backwards by a few
+	 * nanoseconds when another thread re-anchors the clock, so it is meant for
+	 * callers that keep their own state per thread and tolerate it.
+	 * 
+	 * @param shared true if the result is never less than the greatest result
+	 *               returned to any thread
+	 * @return a function
+	 */
+	public EpochTimeFunction asEpochTimeFunction(final boolean shared) {
+		if (shared) {
+			return () -> epochTime(nanos());
+		}
+		return () -> epochTime(localNanos());
+	}
+
+	private static long epochTime(final long nanos) {
+		return EpochTimeFunction.toEpochTime(Math.floorDiv(nanos, 1_000_000L), Math.floorMod(nanos, 1_000_000L));
+	}
+
+	/**
+	 * Returns the nanoseconds since 1970-01-01.
+	 * <p>
+	 * A thread can still be reading the previous anchor while another thread
+	 * slews back with a new one, so the result is never less than the greatest
+	 * result returned to any thread.
+	 * 
+	 * @return a number of nanoseconds
+	 */
+	long nanos() {
+		return highWater.accumulateAndGet(localNanos(), Math::max);
+	}
+
+	/**
+	 * Returns the nanoseconds since 1970-01-01 as seen by the current anchor.
+	 * 
+	 * @return a number of nanoseconds
+	 */
+	private long localNanos() {
+		final Anchor a = this.anchor.get();
+		final long mono = System.nanoTime();
+		return (mono - a.mono < this.period) ? a.nanos(mono) : anchor(a, mono);
+	}
+
+	private long anchor(final Anchor prev, final long mono) {
+
+		final long wall = wall();
+		final long nanos = prev.nanos(mono);
+
+		final Anchor next;
+		if (wall >= nanos) {
+			// jump forward
+			next = new Anchor(wall, mono, 0L);
+		} else {
+			// slew back
+			next = new Anchor(nanos, mono, nanos - wall);
+		}
+
+		// if another thread won, its anchor is as good as this one
+		this.anchor.compareAndSet(prev, next);
+		return next.nanos(mono);
+	}
+
+	private long wall() {
+		final Instant instant = clock.instant();
+		return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+	}
+
+	private static final class Anchor {
+
+		private final long wall; // nanoseconds since 1970-01-01
+		private final long mono; // the value of `System.nanoTime()`
+		private final long lag; // nanoseconds to slew back
+
+		Anchor(long wall, long mono, long lag) {
+			this.wall = wall;
+			this.mono = mono;
+			this.lag = lag;
+		}
+
+		long nanos(final long mono) {
+			final long elapsed = mono - this.mono;
+			return this.wall + elapsed - Math.min(elapsed >>> SLEW_SHIFT, this.lag);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
+
+/**
+ * Policy that parks the current thread until the clock reaches the next
+ * tick.
+ * <p>
+ * The generated values never go ahead of the clock, and the thread does not burn
+ * CPU while waiting. The thread is parked for short intervals, so it can wake up
+ * a little after the next tick.
+ * <p>
+ * If the clock does not reach the next tick within the maximum wait, an
+ * {@link IllegalStateException} is thrown. It happens, for example, when the
+ * clock is stopped or goes backwards.
+ * 
+ * @see OverflowPolicy
+ */
+public final class ParkOverflowPolicy extends AbstOverflowPolicy {
+
+	private final long maxWaitNanos;
+
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAdder timeoutCount = new LongAdder();
+
+	// park for short intervals
+	private static final long PARK_NANOS = 100_000L;
+
+	// wait up to 1 second by default
+	private static final Duration MAX_WAIT_DEFAULT = Duration.ofSeconds(1);
+
+	/**
+	 * Default constructor.
+	 */
+	public ParkOverflowPolicy() {
+		this(MAX_WAIT_DEFAULT);
+	}
+
+	/**
+	 * Constructor with a maximum wait.
+	 * 
+	 * @param maxWait the maximum wait
+	 * @throws IllegalArgumentException if the maximum wait is not positive
+	 */
+	public ParkOverflowPolicy(Duration maxWait) {
+		if (maxWait == null || maxWait.isNegative() || maxWait.isZero()) {
+			throw new IllegalArgumentException("The maximum wait must be positive");
+		}
+		this.maxWaitNanos = maxWait.toNanos();
+	}
+
+	@Override
+	protected long overflow(final long tick, final LongSupplier clock) {
+		final long start = System.nanoTime();
+		try {
+			long elapsed = 0;
+			while (elapsed < maxWaitNanos) {
+				final long now = clock.getAsLong();
+				if (now > tick) {
+					return now;
+				}
+				LockSupport.parkNanos(PARK_NANOS);
+				elapsed = System.nanoTime() - start;
+			}
+			timeoutCount.increment();
+			throw new IllegalStateException("The clock did not reach the next tick");
+		} finally {
+			waitNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Returns the total time spent waiting, in nanoseconds.
+	 * 
+	 * @return the waited nanoseconds
+	 */
+	public long getWaitNanos() {
+		return waitNanos.sum();
+	}
+
+	/**
+	 * Returns how many times the clock did not reach the next tick within the
+	 * maximum wait.
+	 * 
+	 * @return a count
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.sum();
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.f4b6a3.uuid.factory.function.EpochTimeFunction;
+
+/**
+ * Clock that is updated by a background thread.
+ * <p>
+ * A daemon thread reads the underlying clock once per period, 1 millisecond by
+ * default, and publishes the time in a volatile field. Reading the time is
+ * just a volatile read, so it is cheap even when millions of UUIDs are created
+ * per second. The trade-off is that the time can lag behind the underlying
+ * clock by up to one period.
+ * <p>
+ * The time is published as an epoch time, that is, the milliseconds with the
+ * fraction of the millisecond in the lower 12 bits. It is available without
+ * creating an {@link Instant} through {@link #asEpochTimeFunction()}.
+ * <p>
+ * The thread compares the elapsed wall-clock time with the elapsed
+ * {@link System#nanoTime()} on every tick. If they differ by more than 100
+ * milliseconds, the wall clock has jumped, e.g. due to an NTP step. The new
+ * time is published anyway and the jump is counted in {@link #getJumps()}.
+ * <p>
+ * The thread runs until {@link #close()} is called. After that, the clock
+ * reads the underlying clock directly.
+ * <p>
+ * Example:
+ * 
+ * <pre>{@code
+ * TickingClock clock = new TickingClock();
+ * TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withClock(clock).build();
+ * }</pre>
+ * 
+ * @see EpochTimeFunction
+ * @see DefaultTimeFunction
+ */
+public final class TickingClock extends Clock implements AutoCloseable {
+
+	private final Ticker ticker;
+	private final ZoneId zone;
+
+	private static final Duration PERIOD_DEFAULT = Duration.ofMillis(1);
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+	/**
+	 * Default constructor.
+	 * <p>
+	 * It ticks every millisecond over the system clock.
+	 */
+	public TickingClock() {
+		this(Clock.systemUTC());
+	}
+
+	/**
+	 * Constructor with a {@link Clock} instance.
+	 * <p>
+	 * It ticks every millisecond over the given clock.
+	 * 
+	 * @param clock a clock
+	 */
+	public TickingClock(Clock clock) {
+		this(clock, PERIOD_DEFAULT);
+	}
+
+	/**
+	 * Constructor with a {@link Clock} instance and a period.
+	 * 
+	 * @param clock  a clock
+	 * @param period the time between two ticks
+	 * @throws IllegalArgumentException if the period is not positive
+	 */
+	public TickingClock(Clock clock, Duration period) {
+		Objects.requireNonNull(clock, "Null clock");
+		Objects.requireNonNull(period, "Null period");
+		if (period.isNegative() || period.isZero()) {
+			throw new IllegalArgumentException("Invalid period: " + period);
+		}
+		this.ticker = new Ticker(clock, period.toNanos());
+		this.zone = clock.getZone();
+	}
+
+	private TickingClock(Ticker ticker, ZoneId zone) {
+		this.ticker = ticker;
+		this.zone = zone;
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return this.zone;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		if (this.zone.equals(zone)) {
+			return this;
+		}
+		// shares the same thread
+		return new TickingClock(this.ticker, zone);
+	}
+
+	@Override
+	public long millis() {
+		return EpochTimeFunction.toMillis(this.ticker.time());
+	}
+
+	@Override
+	public Instant instant() {
+		return EpochTimeFunction.toInstant(this.ticker.time());
+	}
+
+	/**
+	 * Returns a function that reads the time of this clock without creating
+	 * instants.
+	 * 
+	 * @return a function
+	 */
+	public EpochTimeFunction asEpochTimeFunction() {
+		final Ticker t = this.ticker;
+		return t::time;
+	}
+
+	/**
+	 * Returns the number of wall-clock jumps detected since the thread started.
+	 * 
+	 * @return a number of jumps
+	 */
+	public long getJumps() {
+		return this.ticker.jumps;
+	}
+
+	/**
+	 * Checks if the background thread is running.
+	 * 
+	 * @return true if running
+	 */
+	public boolean isRunning() {
+		return this.ticker.running;
+	}
+
+	/**
+	 * Stops the background thread.
+	 * <p>
+	 * The clock keeps working, but reads the underlying clock on every call. It
+	 * affects all clocks returned by {@link #withZone(ZoneId)}.
+	 */
+	@Override
+	public void close() {
+		this.ticker.shutdown();
+	}
+
+	private static final class Ticker implements Runnable {
+
+		private final Clock clock;
+		private final long period; // nanoseconds
+		private final Thread thread;
+
+		private volatile long time; // epoch time
+		private volatile long jumps; // written by the thread only
+		private volatile boolean running = true;
+
+		// a step greater than this is a wall-clock jump
+		private static final long JUMP_TOLERANCE = 100; // milliseconds
+
+		Ticker(Clock clock, long period) {
+			this.clock = clock;
+			this.period = period;
+			this.time = read();
+			this.thread = new Thread(this, "uuid-creator-ticking-clock-" + SEQUENCE.incrementAndGet());
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+
+		long time() {
+			return this.running ? this.time : read();
+		}
+
+		long read() {
+			return EpochTimeFunction.toEpochTime(clock.instant());
+		}
+
+		@Override
+		public void run() {
+
+			long lastNanos = System.nanoTime();
+			long lastMillis = EpochTimeFunction.toMillis(this.time);
+
+			while (this.running) {
+
+				LockSupport.parkNanos(this, this.period);
+
+				final long nanos = System.nanoTime();
+				final long now = read();
+				final long millis = EpochTimeFunction.toMillis(now);
+
+				// the wall clock should have advanced as much as the monotonic clock
+				final long expected = lastMillis + (nanos - lastNanos) / 1_000_000L;
+				if (Math.abs(millis - expected) > JUMP_TOLERANCE) {
+					this.jumps++;
+				}
+
+				this.time = now;
+				lastNanos = nanos;
+				lastMillis = millis;
+			}
+		}
+
+		void shutdown() {
+			this.running = false;
+			LockSupport.unpark(this.thread);
+		}
+	}
+}
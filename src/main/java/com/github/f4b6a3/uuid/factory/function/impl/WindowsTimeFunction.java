@@ -29,6 +29,7 @@ import static com.github.f4b6a3.uuid.util.UuidTime.TICKS_PER_MILLI;
 import java.time.Clock;
 import java.util.SplittableRandom;
 
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
 import com.github.f4b6a3.uuid.factory.function.TimeFunction;
 
 /**
@@ -41,12 +42,18 @@ import com.github.f4b6a3.uuid.factory.function.TimeFunction;
  * 64Hz timer frequency.
  * <p>
  * It can advance 16ms or more ahead of system clock on heavy load.
+ * <p>
+ * By default, it borrows time from the future when the counter of the current
+ * tick is exhausted. Another {@link OverflowPolicy} can be passed to the
+ * constructor.
  * 
  * @see TimeFunction
+ * @see OverflowPolicy
  */
 public final class WindowsTimeFunction implements TimeFunction {
 
 	private final Clock clock;
+	private final OverflowPolicy overflowPolicy;
 
 	private long lastTime = -1;
 
@@ -66,7 +73,7 @@ public final class WindowsTimeFunction implements TimeFunction {
 	 * Default constructor.
 	 */
 	public WindowsTimeFunction() {
-		this.clock = Clock.systemUTC();
+		this(Clock.systemUTC());
 	}
 
 	/**
@@ -75,7 +82,18 @@ public final class WindowsTimeFunction implements TimeFunction {
 	 * @param clock a clock
 	 */
 	public WindowsTimeFunction(Clock clock) {
+		this(clock, new BorrowOverflowPolicy());
+	}
+
+	/**
+	 * Constructor with a clock and an overflow policy.
+	 * 
+	 * @param clock          a clock
+	 * @param overflowPolicy a policy applied when the counter is exhausted
+	 */
+	public WindowsTimeFunction(Clock clock, OverflowPolicy overflowPolicy) {
 		this.clock = clock;
+		this.overflowPolicy = overflowPolicy;
 	}
 
 	@Override
@@ -96,7 +114,8 @@ public final class WindowsTimeFunction implements TimeFunction {
 			// if the time repeats,
 			// check the counter limit
 			if (counter >= counterMax) {
-				time += GRANULARITY; // let it go forwards
+				// let it go forwards or wait for the next granule
+				time = overflowPolicy.apply(time / GRANULARITY, () -> calculatedMillis() / GRANULARITY) * GRANULARITY;
 				// reset to a number between 0 and 159,999
 				counter = counter % TICKS_PER_GRANULARITY;
 				// reset to a number between 160,000 and 319,999
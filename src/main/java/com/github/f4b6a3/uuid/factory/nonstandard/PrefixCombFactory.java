@@ -31,6 +31,7 @@ import java.util.function.LongSupplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstCombFactory;
+import com.github.f4b6a3.uuid.factory.function.EpochTimeFunction;
 
 /**
  * Concrete factory for creating Prefix COMB GUIDs.
@@ -39,6 +40,11 @@ import com.github.f4b6a3.uuid.factory.AbstCombFactory;
  * <p>
  * The creation millisecond is a 6 bytes PREFIX at the MOST significant bits.
  * <p>
+ * By default, the bits after the prefix are random, so the GUIDs created in the
+ * same millisecond are not ordered. Use {@link Builder#withIncrementPlus1()} or
+ * {@link Builder#withIncrementPlusN()} to increment them instead, so that the
+ * GUIDs are appended at the end of an index.
+ * <p>
  * The created UUID is a UUIDv4 for compatibility with RFC 9562.
  * 
  * @see <a href="http://www.informit.com/articles/article.aspx?p=25862">The Cost
@@ -46,6 +52,13 @@ import com.github.f4b6a3.uuid.factory.AbstCombFactory;
  */
 public final class PrefixCombFactory extends AbstCombFactory {
 
+	private final MonotonicFunction monotonic;
+
+	private static final int PREFIX_BYTES = 6;
+
+	// let go up to 1 second ahead of the clock
+	private static final long ADVANCE_MAX = 1_000L;
+
 	/**
 	 * Default constructor.
 	 */
@@ -103,12 +116,14 @@ public final class PrefixCombFactory extends AbstCombFactory {
 
 	private PrefixCombFactory(Builder builder) {
 		super(UuidVersion.VERSION_RANDOM_BASED, builder);
+		this.monotonic = getMonotonicFunction(builder, PREFIX_BYTES, ADVANCE_MAX);
 	}
 
 	/**
 	 * Builder of factories.
 	 */
-	public static class Builder extends AbstCombFactory.Builder<PrefixCombFactory, Builder> {
+	public static class Builder extends AbstCombFactory.MonotonicBuilder<PrefixCombFactory, Builder> {
+
 		@Override
 		public PrefixCombFactory build() {
 			return new PrefixCombFactory(this);
@@ -131,17 +146,29 @@ public final class PrefixCombFactory extends AbstCombFactory {
 	 */
 	@Override
 	public UUID create() {
+		// the monotonic state is always guarded by the lock
+		if (this.threadSafe && this.monotonic == null) {
+			return next();
+		}
 		lock.lock();
 		try {
-			final long time = instantFunction.get().toEpochMilli();
-			final long long1 = this.random.nextLong(2);
-			final long long2 = this.random.nextLong(8);
-			return make(time, long1, long2);
+			return next();
 		} finally {
 			lock.unlock();
 		}
 	}
 
+	private UUID next() {
+		final long time = EpochTimeFunction.toMillis(epochTimeFunction.getAsLong());
+		if (this.monotonic != null) {
+			this.monotonic.next(time);
+			return toUuid(this.monotonic.getMostSignificantBits(), this.monotonic.getLeastSignificantBits());
+		}
+		final long long1 = this.random.nextLong(2);
+		final long long2 = this.random.nextLong(8);
+		return make(time, long1, long2);
+	}
+
 	private UUID make(final long time, final long long1, final long long2) {
 		return toUuid((time << 16) | (long1 & 0x000000000000ffffL), long2);
 	}
@@ -31,6 +31,7 @@ import java.util.function.LongSupplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstCombFactory;
+import com.github.f4b6a3.uuid.factory.function.EpochTimeFunction;
 
 /**
  * Concrete factory for creating Short Prefix COMB GUIDs.
@@ -42,6 +43,11 @@ import com.github.f4b6a3.uuid.factory.AbstCombFactory;
  * <p>
  * The prefix wraps around every ~45 days (2^16/60/24 = ~45).
  * <p>
+ * By default, the bits after the prefix are random, so the GUIDs created in the
+ * same interval are not ordered. Use {@link Builder#withIncrementPlus1()} or
+ * {@link Builder#withIncrementPlusN()} to increment them instead, so that the
+ * GUIDs are appended at the end of an index.
+ * <p>
  * The created UUID is a UUIDv4 for compatibility with RFC 9562.
  * 
  * @see <a href=
@@ -60,6 +66,10 @@ public final class ShortPrefixCombFactory extends AbstCombFactory {
 	 */
 	protected static final int DEFAULT_INTERVAL = 60_000;
 
+	private final MonotonicFunction monotonic;
+
+	private static final int PREFIX_BYTES = 2;
+
 	/**
 	 * Default constructor.
 	 */
@@ -118,12 +128,14 @@ public final class ShortPrefixCombFactory extends AbstCombFactory {
 	private ShortPrefixCombFactory(Builder builder) {
 		super(UuidVersion.VERSION_RANDOM_BASED, builder);
 		this.interval = builder.getInterval();
+		// let go up to 1 second ahead of the clock, but at least 1 interval
+		this.monotonic = getMonotonicFunction(builder, PREFIX_BYTES, Math.max(1, 1_000 / this.interval));
 	}
 
 	/**
 	 * A builder of factories.
 	 */
-	public static class Builder extends AbstCombFactory.Builder<ShortPrefixCombFactory, Builder> {
+	public static class Builder extends AbstCombFactory.MonotonicBuilder<ShortPrefixCombFactory, Builder> {
 
 		private Integer interval;
 
@@ -172,17 +184,29 @@ public final class ShortPrefixCombFactory extends AbstCombFactory {
 	 */
 	@Override
 	public UUID create() {
+		// the monotonic state is always guarded by the lock
+		if (this.threadSafe && this.monotonic == null) {
+			return next();
+		}
 		lock.lock();
 		try {
-			final long time = instantFunction.get().toEpochMilli() / interval;
-			final long long1 = this.random.nextLong(6);
-			final long long2 = this.random.nextLong(8);
-			return make(time, long1, long2);
+			return next();
 		} finally {
 			lock.unlock();
 		}
 	}
 
+	private UUID next() {
+		final long time = EpochTimeFunction.toMillis(epochTimeFunction.getAsLong()) / interval;
+		if (this.monotonic != null) {
+			this.monotonic.next(time);
+			return toUuid(this.monotonic.getMostSignificantBits(), this.monotonic.getLeastSignificantBits());
+		}
+		final long long1 = this.random.nextLong(6);
+		final long long2 = this.random.nextLong(8);
+		return make(time, long1, long2);
+	}
+
 	private UUID make(final long time, final long long1, final long long2) {
 		return toUuid((time << 48) | (long1 & 0x0000ffffffffffffL), long2);
 	}
@@ -31,6 +31,7 @@ import java.util.function.LongSupplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstCombFactory;
+import com.github.f4b6a3.uuid.factory.function.EpochTimeFunction;
 
 /**
  * Concrete factory for creating Short Suffix COMB GUIDs.
@@ -172,17 +173,24 @@ public final class ShortSuffixCombFactory extends AbstCombFactory {
 	 */
 	@Override
 	public UUID create() {
+		if (this.threadSafe) {
+			return next();
+		}
 		lock.lock();
 		try {
-			final long time = instantFunction.get().toEpochMilli() / interval;
-			final long long1 = this.random.nextLong(8);
-			final long long2 = this.random.nextLong(6);
-			return make(time, long1, long2);
+			return next();
 		} finally {
 			lock.unlock();
 		}
 	}
 
+	private UUID next() {
+		final long time = EpochTimeFunction.toMillis(epochTimeFunction.getAsLong()) / interval;
+		final long long1 = this.random.nextLong(8);
+		final long long2 = this.random.nextLong(6);
+		return make(time, long1, long2);
+	}
+
 	private UUID make(final long time, final long long1, final long long2) {
 		return toUuid(long1,
 				(((long2 & 0x0000ffff00000000L) << 16) | (time & 0xffffL) << 32) | (long2 & 0x00000000ffffffffL));
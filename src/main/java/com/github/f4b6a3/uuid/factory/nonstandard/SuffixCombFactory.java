@@ -32,6 +32,7 @@ import java.util.function.LongSupplier;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstCombFactory;
 import com.github.f4b6a3.uuid.factory.AbstRandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.function.EpochTimeFunction;
 
 /**
  * Concrete factory for creating Suffix COMB GUIDs.
@@ -134,17 +135,24 @@ public final class SuffixCombFactory extends AbstCombFactory {
 	 */
 	@Override
 	public UUID create() {
+		if (this.threadSafe) {
+			return next();
+		}
 		lock.lock();
 		try {
-			final long time = instantFunction.get().toEpochMilli();
-			final long long1 = this.random.nextLong(8);
-			final long long2 = this.random.nextLong(2);
-			return make(time, long1, long2);
+			return next();
 		} finally {
 			lock.unlock();
 		}
 	}
 
+	private UUID next() {
+		final long time = EpochTimeFunction.toMillis(epochTimeFunction.getAsLong());
+		final long long1 = this.random.nextLong(8);
+		final long long2 = this.random.nextLong(2);
+		return make(time, long1, long2);
+	}
+
 	private UUID make(final long time, final long long1, final long long2) {
 		return toUuid(long1, (long2 << 48) | (time & 0x0000ffffffffffffL));
 	}
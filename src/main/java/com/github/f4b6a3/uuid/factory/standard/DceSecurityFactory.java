@@ -177,6 +177,19 @@ public final class DceSecurityFactory extends AbstTimeBasedFactory {
 		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
 	}
 
+	/**
+	 * Always throws an exception.
+	 * <p>
+	 * Overrides the method {@link AbstTimeBasedFactory#createInto(long[], int)} to
+	 * throw an exception instead of writing a UUID.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void createInto(long[] dst, int offset) {
+		throw new UnsupportedOperationException("Unsuported operation for DCE Security UUID factory");
+	}
+
 	/**
 	 * Returns a DCE Security unique identifier (UUIDv2).
 	 * 
@@ -75,4 +75,29 @@ public final class NameBasedMd5Factory extends AbstNameBasedFactory {
 	private NameBasedMd5Factory(byte[] namespace) {
 		super(UuidVersion.VERSION_NAME_BASED_MD5, ALGORITHM_MD5, namespace);
 	}
+
+	private NameBasedMd5Factory(Builder builder) {
+		super(UuidVersion.VERSION_NAME_BASED_MD5, ALGORITHM_MD5, builder);
+	}
+
+	/**
+	 * Returns a builder of name-based factory.
+	 * 
+	 * @return a builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Concrete builder for creating a name-based factory.
+	 * 
+	 * @see AbstNameBasedFactory.Builder
+	 */
+	public static class Builder extends AbstNameBasedFactory.Builder<NameBasedMd5Factory, Builder> {
+		@Override
+		public NameBasedMd5Factory build() {
+			return new NameBasedMd5Factory(this);
+		}
+	}
 }
@@ -75,4 +75,29 @@ public final class NameBasedSha1Factory extends AbstNameBasedFactory {
 	private NameBasedSha1Factory(byte[] namespace) {
 		super(UuidVersion.VERSION_NAME_BASED_SHA1, ALGORITHM_SHA1, namespace);
 	}
+
+	private NameBasedSha1Factory(Builder builder) {
+		super(UuidVersion.VERSION_NAME_BASED_SHA1, ALGORITHM_SHA1, builder);
+	}
+
+	/**
+	 * Returns a builder of name-based factory.
+	 * 
+	 * @return a builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Concrete builder for creating a name-based factory.
+	 * 
+	 * @see AbstNameBasedFactory.Builder
+	 */
+	public static class Builder extends AbstNameBasedFactory.Builder<NameBasedSha1Factory, Builder> {
+		@Override
+		public NameBasedSha1Factory build() {
+			return new NameBasedSha1Factory(this);
+		}
+	}
 }
@@ -105,20 +105,65 @@ public final class RandomBasedFactory extends AbstRandomBasedFactory {
 	 */
 	@Override
 	public UUID create() {
+		if (this.threadSafe) {
+			return next();
+		}
 		lock.lock();
 		try {
-			if (this.random instanceof SafeRandom) {
-				final byte[] bytes = this.random.nextBytes(16);
-				final long msb = ByteUtil.toNumber(bytes, 0, 8);
-				final long lsb = ByteUtil.toNumber(bytes, 8, 16);
-				return toUuid(msb, lsb);
-			} else {
-				final long msb = this.random.nextLong();
-				final long lsb = this.random.nextLong();
-				return toUuid(msb, lsb);
-			}
+			return next();
 		} finally {
 			lock.unlock();
 		}
 	}
+
+	/**
+	 * Creates a random-based UUID and writes its bits into an array.
+	 * <p>
+	 * It doesn't allocate a {@link UUID} instance.
+	 * 
+	 * @param dst    an array of longs
+	 * @param offset the index of the most significant bits
+	 * @throws IndexOutOfBoundsException if there are less than 2 positions after
+	 *                                   the offset
+	 */
+	@Override
+	public void createInto(long[] dst, int offset) {
+		checkBounds(dst.length, offset, 2);
+		if (this.threadSafe) {
+			nextInto(dst, offset);
+			return;
+		}
+		lock.lock();
+		try {
+			nextInto(dst, offset);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private UUID next() {
+		if (this.random instanceof SafeRandom) {
+			final byte[] bytes = this.random.nextBytes(16);
+			final long msb = ByteUtil.toNumber(bytes, 0, 8);
+			final long lsb = ByteUtil.toNumber(bytes, 8, 16);
+			return toUuid(msb, lsb);
+		} else {
+			final long msb = this.random.nextLong();
+			final long lsb = this.random.nextLong();
+			return toUuid(msb, lsb);
+		}
+	}
+
+	private void nextInto(long[] dst, int offset) {
+		if (this.random instanceof SafeRandom) {
+			final byte[] bytes = this.random.nextBytes(16);
+			final long msb = ByteUtil.toNumber(bytes, 0, 8);
+			final long lsb = ByteUtil.toNumber(bytes, 8, 16);
+			toLongs(msb, lsb, dst, offset);
+		} else {
+			final long msb = this.random.nextLong();
+			final long lsb = this.random.nextLong();
+			toLongs(msb, lsb, dst, offset);
+		}
+	}
 }
@@ -29,6 +29,7 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -36,7 +37,14 @@ import java.util.function.Supplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstCombFactory;
+import com.github.f4b6a3.uuid.factory.function.EpochTimeFunction;
+import com.github.f4b6a3.uuid.factory.function.NodeIdFunction;
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.BorrowOverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.HashNodeIdFunction;
+import com.github.f4b6a3.uuid.factory.function.impl.MonotonicTimeFunction;
 import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactory;
+import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 
 /**
  * Concrete factory for creating Unix epoch time-ordered unique identifiers
@@ -60,15 +68,34 @@ import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactory;
  * Monotonic ULID, but with a random increment instead of 1.
  * </ul>
  * <p>
- * If the underlying runtime provides enough clock precision, the microseconds
- * are also injected in the UUID, specifically in the {@code rand_a} field,
- * which is the name RFC 9562 gives to the 12 bits right after the milliseconds
- * field, from left to right. Otherwise, these 12 bits are randomly generated.
+ * Two other types follow the methods of RFC 9562: a fixed-length counter, with
+ * {@link Builder#withCounter(int)}, and sub-millisecond precision, with
+ * {@link Builder#withSubMillisecondPrecision()}.
  * <p>
- * In JDK 11, we get 1 microsecond precision. However, in JDK 8, the maximum
- * precision we can get is 1 millisecond. On Windows, it is even worse because
- * the default precision is 15.625ms, due to the system clock's refresh rate of
- * 64Hz.
+ * The fraction of the millisecond is also injected in the UUID, specifically in
+ * the {@code rand_a} field, which is the name RFC 9562 gives to the 12 bits
+ * right after the milliseconds field, from left to right. If the time source
+ * has only millisecond precision, these 12 bits are randomly generated.
+ * <p>
+ * By default, the time is measured with {@link System#nanoTime()} anchored to
+ * the system clock, so the fraction is real even in JDK 8, where the system
+ * clock has 1 millisecond precision, and on Windows, where it has 15.625ms due
+ * to the system clock's refresh rate of 64Hz.
+ * <p>
+ * By default, the internal state is guarded by a lock. Under heavy contention,
+ * a lock-free engine can be enabled with {@link Builder#withLockFree()}. It
+ * advances the same state with a single compare-and-set operation. Each thread
+ * can also have its own state with {@link Builder#withThreadLocalState()}, at
+ * the cost of monotonicity across threads.
+ * <p>
+ * Factories running on different nodes can reserve the trailing bits of
+ * {@code rand_b} for a node identifier with {@link Builder#withNodeBits(int)}.
+ * The UUIDs of different nodes never collide, and the UUIDs of each node are
+ * still monotonic.
+ * <p>
+ * Many UUIDs can be created at once with {@link #createBatch(int)}. The lock is
+ * acquired once per batch, the clock is read once per chunk of UUIDs, and the
+ * random bits are drawn in bulk.
  * 
  * @since 5.0.0
  * @see PrefixCombFactory
@@ -81,14 +108,25 @@ import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactory;
  */
 public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
-	private final UuidFunction uuidFunction;
+	private final Engine uuidFunction;
 
 	private static final int INCREMENT_TYPE_DEFAULT = 0; // add 2^48 to `rand_b`
 	private static final int INCREMENT_TYPE_PLUS_1 = 1; // just add 1 to `rand_b`
 	private static final int INCREMENT_TYPE_PLUS_N = 2; // add a random n to `rand_b`, where 1 <= n <= 2^32
+	private static final int INCREMENT_TYPE_COUNTER = 3; // add 1 to a counter in `rand_a` and `rand_b`
+	private static final int INCREMENT_TYPE_SUB_MILLI = 4; // put the fraction of millisecond in `rand_a`
 
 	private static final long INCREMENT_MAX_DEFAULT = 0xffffffffL; // 2^32-1
 
+	private static final int COUNTER_BITS_MIN = 12; // `rand_a` only
+	private static final int COUNTER_BITS_MAX = 42; // `rand_a` and 30 bits of `rand_b`
+
+	private static final int NODE_BITS_DEFAULT = 10; // up to 1024 nodes
+	private static final int NODE_BITS_MAX = 24; // trailing bits of `rand_b`
+
+	// number of UUIDs created per clock reading in a batch
+	private static final int BATCH_CHUNK = 1024;
+
 	private static final long versionBits = 0x000000000000f000L;
 	private static final long variantBits = 0xc000000000000000L;
 	private static final long upper16Bits = 0xffff000000000000L;
@@ -152,16 +190,41 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 	private TimeOrderedEpochFactory(Builder builder) {
 		super(UuidVersion.VERSION_TIME_ORDERED_EPOCH, builder);
 
+		final Supplier<UuidFunction> supplier;
+		final long incrementMax = builder.getIncrementMax();
+		final OverflowPolicy overflowPolicy = builder.getOverflowPolicy();
+		final int nodeBits = builder.getNodeBits();
+		final long nodeid = builder.getNodeId();
+
+		// the lock-free and per-thread engines call the random without a lock
+		final boolean locked = !builder.isLockFree() && !builder.isThreadLocalState();
+		final IRandom random = locked || this.threadSafe ? this.random : new LockedRandom(this.random);
+
 		switch (builder.getIncrementType()) {
 		case INCREMENT_TYPE_PLUS_1:
-			this.uuidFunction = new Plus1Function(random, instantFunction);
+			supplier = () -> new Plus1Function(random, epochTimeFunction, overflowPolicy).init(nodeBits, nodeid);
 			break;
 		case INCREMENT_TYPE_PLUS_N:
-			this.uuidFunction = new PlusNFunction(random, instantFunction, builder.getIncrementMax());
+			supplier = () -> new PlusNFunction(random, epochTimeFunction, overflowPolicy, incrementMax).init(nodeBits, nodeid);
+			break;
+		case INCREMENT_TYPE_COUNTER:
+			final int counterBits = builder.getCounterBits();
+			supplier = () -> new CounterFunction(random, epochTimeFunction, overflowPolicy, counterBits).init(nodeBits, nodeid);
+			break;
+		case INCREMENT_TYPE_SUB_MILLI:
+			supplier = () -> new SubMillisecondFunction(random, epochTimeFunction, overflowPolicy).init(nodeBits, nodeid);
 			break;
 		case INCREMENT_TYPE_DEFAULT:
 		default:
-			this.uuidFunction = new DefaultFunction(random, instantFunction);
+			supplier = () -> new DefaultFunction(random, epochTimeFunction, overflowPolicy).init(nodeBits, nodeid);
+		}
+
+		if (builder.isLockFree()) {
+			this.uuidFunction = new LockFreeFunction(supplier, epochTimeFunction);
+		} else if (builder.isThreadLocalState()) {
+			this.uuidFunction = new ThreadLocalFunction(supplier, epochTimeFunction);
+		} else {
+			this.uuidFunction = supplier.get();
 		}
 	}
 
@@ -174,6 +237,13 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 		private Integer incrementType;
 		private Long incrementMax;
+		private Integer counterBits;
+		private boolean lockFree = false;
+		private boolean threadLocalState = false;
+		private OverflowPolicy overflowPolicy;
+		private Integer nodeBits;
+		private Long nodeid;
+		private NodeIdFunction nodeidFunction;
 
 		/**
 		 * Set the increment type to PLUS 1.
@@ -183,6 +253,7 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 		public Builder withIncrementPlus1() {
 			this.incrementType = INCREMENT_TYPE_PLUS_1;
 			this.incrementMax = null;
+			this.counterBits = null;
 			return this;
 		}
 
@@ -194,6 +265,7 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 		public Builder withIncrementPlusN() {
 			this.incrementType = INCREMENT_TYPE_PLUS_N;
 			this.incrementMax = null;
+			this.counterBits = null;
 			return this;
 		}
 
@@ -206,9 +278,209 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 		public Builder withIncrementPlusN(long incrementMax) {
 			this.incrementType = INCREMENT_TYPE_PLUS_N;
 			this.incrementMax = incrementMax;
+			this.counterBits = null;
+			return this;
+		}
+
+		/**
+		 * Set the increment type to COUNTER and set the counter length.
+		 * <p>
+		 * It is the fixed bit-length dedicated counter of RFC 9562, method 1. The
+		 * counter takes the `rand_a` field and, if longer than 12 bits, the leading
+		 * bits of the `rand_b` field. The remaining bits of `rand_b` are random.
+		 * <p>
+		 * The counter is seeded with random bits every millisecond, leaving its most
+		 * significant bit clear. If it overflows anyway, the time advances 1ms.
+		 * <p>
+		 * A longer counter draws less random bits per UUID and puts UUIDs of the same
+		 * millisecond closer together.
+		 * 
+		 * @param counterBits the counter length, between 12 and 42
+		 * @return the builder
+		 * @throws IllegalArgumentException if the length is out of range
+		 */
+		public Builder withCounter(int counterBits) {
+			if (counterBits < COUNTER_BITS_MIN || counterBits > COUNTER_BITS_MAX) {
+				throw new IllegalArgumentException(String.format("Invalid counter length: %s (expected %s to %s)",
+						counterBits, COUNTER_BITS_MIN, COUNTER_BITS_MAX));
+			}
+			this.incrementType = INCREMENT_TYPE_COUNTER;
+			this.incrementMax = null;
+			this.counterBits = counterBits;
+			return this;
+		}
+
+		/**
+		 * Set the increment type to SUB-MILLISECOND.
+		 * <p>
+		 * It is the increased clock precision of RFC 9562, method 3. The `rand_a`
+		 * field always holds the fraction of the millisecond, that is, the time has
+		 * 1/4096 millisecond precision. Within the same fraction, the `rand_b` field
+		 * is incremented like the default type.
+		 * <p>
+		 * UUIDs are monotonic across threads, like the other types. To give each
+		 * thread its own state instead, use {@link #withThreadLocalState()} as well.
+		 * <p>
+		 * The default time source measures the fraction with
+		 * {@link System#nanoTime()}. A custom clock should have sub-millisecond
+		 * precision too.
+		 * 
+		 * @return the builder
+		 */
+		public Builder withSubMillisecondPrecision() {
+			this.incrementType = INCREMENT_TYPE_SUB_MILLI;
+			this.incrementMax = null;
+			this.counterBits = null;
+			return this;
+		}
+
+		/**
+		 * Set the policy applied when the UUIDs of the current tick are exhausted.
+		 * <p>
+		 * The tick is the millisecond, or the fraction of millisecond with
+		 * {@link #withSubMillisecondPrecision()}. By default, the next tick is
+		 * borrowed from the future, going up to 1 second ahead of the clock. The
+		 * policy can also wait for the next tick with {@link OverflowPolicy#spin()}
+		 * or {@link OverflowPolicy#park()}, or throw an exception with
+		 * {@link OverflowPolicy#fail()}.
+		 * 
+		 * @param overflowPolicy a policy
+		 * @return the builder
+		 */
+		public Builder withOverflowPolicy(OverflowPolicy overflowPolicy) {
+			this.overflowPolicy = overflowPolicy;
+			return this;
+		}
+
+		/**
+		 * Reserve the trailing bits of the `rand_b` field for a node identifier.
+		 * <p>
+		 * Each node of a deployment must have a distinct identifier. Then the UUIDs
+		 * of different nodes never collide, even with {@link #withIncrementPlus1()},
+		 * and the UUIDs of each node are monotonic as usual. Across nodes, UUIDs
+		 * are ordered by time.
+		 * <p>
+		 * The increments are applied above the node identifier, so the space of
+		 * each millisecond shrinks by 2^bits. For example, PLUS N increments of up
+		 * to 2^32 roll over into the time much sooner with many bits.
+		 * <p>
+		 * If no node identifier is set, a hash of host name, MAC and IP is used. A
+		 * hash is not guaranteed to be distinct across nodes, so an identifier
+		 * assigned by the deployment is preferred, for example, the ordinal of a
+		 * pod.
+		 * 
+		 * @param nodeBits the number of bits, between 1 and 24
+		 * @return the builder
+		 * @throws IllegalArgumentException if the number of bits is out of range
+		 * @see #withNodeId(long)
+		 */
+		public Builder withNodeBits(int nodeBits) {
+			if (nodeBits < 1 || nodeBits > NODE_BITS_MAX) {
+				throw new IllegalArgumentException(
+						String.format("Invalid node bits: %s (expected 1 to %s)", nodeBits, NODE_BITS_MAX));
+			}
+			this.nodeBits = nodeBits;
 			return this;
 		}
 
+		/**
+		 * Set the node identifier.
+		 * <p>
+		 * It must fit in the number of bits set with {@link #withNodeBits(int)},
+		 * which is 10 by default.
+		 * 
+		 * @param nodeid a node identifier
+		 * @return the builder
+		 */
+		public Builder withNodeId(long nodeid) {
+			this.nodeid = nodeid;
+			this.nodeidFunction = null;
+			return this;
+		}
+
+		/**
+		 * Set the node identifier function.
+		 * <p>
+		 * The function is called once, when the factory is built. Only the trailing
+		 * bits of its result are used, as many as set with
+		 * {@link #withNodeBits(int)}, which is 10 by default.
+		 * 
+		 * @param nodeidFunction a function
+		 * @return the builder
+		 */
+		public Builder withNodeIdFunction(NodeIdFunction nodeidFunction) {
+			this.nodeidFunction = nodeidFunction;
+			this.nodeid = null;
+			return this;
+		}
+
+		/**
+		 * Set the node identifier function to a hash of host name, MAC and IP.
+		 * 
+		 * @return the builder
+		 * @see HashNodeIdFunction
+		 */
+		public Builder withHashNodeId() {
+			return withNodeIdFunction(new HashNodeIdFunction());
+		}
+
+		/**
+		 * Use a lock-free engine instead of a lock.
+		 * <p>
+		 * The internal state is advanced with a single compare-and-set operation. The
+		 * monotonicity and overflow guarantees are the same as the default engine.
+		 * <p>
+		 * A random generator that is not thread-safe is guarded by a lock of its
+		 * own. The built-in generators are thread-safe.
+		 * <p>
+		 * It overrides {@link #withThreadLocalState()}.
+		 * 
+		 * @return the builder
+		 */
+		public Builder withLockFree() {
+			this.lockFree = true;
+			this.threadLocalState = false;
+			return this;
+		}
+
+		/**
+		 * Give each thread its own state instead of sharing a lock.
+		 * <p>
+		 * There is no lock and no shared counter, so threads never wait for each
+		 * other. The cost is ordering: UUIDs are monotonic within a thread only.
+		 * Across threads, they are ordered by time only, and two threads can create
+		 * UUIDs in the same tick whose order is random. Uniqueness across threads
+		 * relies on the random bits of each thread's state.
+		 * <p>
+		 * It is meant for {@link #withSubMillisecondPrecision()}, where the tick is
+		 * about 244 nanoseconds. The default time source then skips the greatest
+		 * time shared by all threads, since each thread keeps its own.
+		 * <p>
+		 * A random generator that is not thread-safe is guarded by a lock of its
+		 * own. The built-in generators are thread-safe.
+		 * <p>
+		 * It overrides {@link #withLockFree()}.
+		 * 
+		 * @return the builder
+		 */
+		public Builder withThreadLocalState() {
+			this.threadLocalState = true;
+			this.lockFree = false;
+			return this;
+		}
+
+		/**
+		 * Get the overflow policy.
+		 * 
+		 * @return a policy
+		 */
+		protected OverflowPolicy getOverflowPolicy() {
+			if (this.overflowPolicy == null) {
+				this.overflowPolicy = new BorrowOverflowPolicy();
+			}
+			return this.overflowPolicy;
+		}
+
 		/**
 		 * Set the increment type.
 		 * 
@@ -233,6 +505,93 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 			return this.incrementMax;
 		}
 
+		/**
+		 * Get the counter length.
+		 * 
+		 * @return a number
+		 */
+		protected int getCounterBits() {
+			if (this.counterBits == null) {
+				this.counterBits = COUNTER_BITS_MIN;
+			}
+			return this.counterBits;
+		}
+
+		/**
+		 * Get the number of bits reserved for the node identifier.
+		 * <p>
+		 * It is zero if no node option is set.
+		 * 
+		 * @return a number
+		 */
+		protected int getNodeBits() {
+			if (this.nodeBits == null) {
+				this.nodeBits = this.nodeid != null || this.nodeidFunction != null ? NODE_BITS_DEFAULT : 0;
+			}
+			return this.nodeBits;
+		}
+
+		/**
+		 * Get the node identifier.
+		 * 
+		 * @return a number
+		 * @throws IllegalArgumentException if the node identifier does not fit in
+		 *                                  the number of bits
+		 */
+		protected long getNodeId() {
+			final int bits = getNodeBits();
+			if (bits == 0) {
+				return 0L;
+			}
+			final long mask = (1L << bits) - 1;
+			if (this.nodeid != null) {
+				if ((this.nodeid & ~mask) != 0) {
+					throw new IllegalArgumentException(
+							String.format("Invalid node identifier: %s (expected 0 to %s)", this.nodeid, mask));
+				}
+				return this.nodeid;
+			}
+			if (this.nodeidFunction == null) {
+				this.nodeidFunction = new HashNodeIdFunction();
+			}
+			return this.nodeidFunction.getAsLong() & mask;
+		}
+
+		/**
+		 * Check if the lock-free engine is enabled.
+		 * 
+		 * @return true if enabled
+		 */
+		protected boolean isLockFree() {
+			return this.lockFree;
+		}
+
+		/**
+		 * Check if the per-thread engine is enabled.
+		 * 
+		 * @return true if enabled
+		 */
+		protected boolean isThreadLocalState() {
+			return this.threadLocalState;
+		}
+
+		/**
+		 * Get the epoch time function.
+		 * <p>
+		 * The default function measures the time with {@link System#nanoTime()}, so
+		 * it has a real fraction of millisecond in any runtime.
+		 * 
+		 * @return a function
+		 * @see MonotonicTimeFunction
+		 */
+		@Override
+		protected EpochTimeFunction getEpochTimeFunction() {
+			if (this.epochTimeFunction == null && this.instantFunction == null) {
+				this.epochTimeFunction = new MonotonicTimeFunction().asEpochTimeFunction(!this.threadLocalState);
+			}
+			return super.getEpochTimeFunction();
+		}
+
 		@Override
 		public TimeOrderedEpochFactory build() {
 			return new TimeOrderedEpochFactory(this);
@@ -255,8 +614,7 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 	 */
 	@Override
 	public UUID create() {
-		UUID uuid = this.uuidFunction.apply(null);
-		return toUuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		return this.uuidFunction.apply(null);
 	}
 
 	/**
@@ -270,37 +628,141 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 	@Override
 	public UUID create(Parameters parameters) {
 		Objects.requireNonNull(parameters.getInstant(), "Null instant");
-		UUID uuid = this.uuidFunction.apply(parameters.getInstant());
-		return toUuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		return this.uuidFunction.apply(parameters.getInstant());
+	}
+
+	/**
+	 * Creates a time-ordered unique identifier (UUIDv7) and writes its bits into
+	 * an array.
+	 * <p>
+	 * The default engine doesn't allocate a {@link UUID} instance. The lock-free
+	 * engine still allocates one to publish its state.
+	 * 
+	 * @param dst    an array of longs
+	 * @param offset the index of the most significant bits
+	 * @throws IndexOutOfBoundsException if there are less than 2 positions after
+	 *                                   the offset
+	 */
+	@Override
+	public void createInto(long[] dst, int offset) {
+		checkBounds(dst.length, offset, 2);
+		this.uuidFunction.apply(dst, offset);
+	}
+
+	/**
+	 * Fills a range of an array with time-ordered unique identifiers (UUIDv7).
+	 * <p>
+	 * The UUIDs are strictly monotonic, even if the counter overflows within the
+	 * batch.
+	 * 
+	 * @param uuids  an array of UUIDs
+	 * @param offset the index of the first element to be filled
+	 * @param length the number of elements to be filled
+	 * @throws IndexOutOfBoundsException if the range is out of the array bounds
+	 */
+	@Override
+	public void createBatch(UUID[] uuids, int offset, int length) {
+		checkBounds(uuids.length, offset, length);
+		this.uuidFunction.apply(uuids, offset, length);
+	}
+
+	/**
+	 * Returns a UUIDv7 with version and variant bits applied.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return a UUIDv7
+	 */
+	static UUID format(final long msb, final long lsb) {
+		return new UUID(formatMostSignificantBits(msb), formatLeastSignificantBits(lsb));
+	}
+
+	static long formatMostSignificantBits(final long msb) {
+		return (msb & ~versionBits) | 0x0000000000007000L; // apply version 7
+	}
+
+	static long formatLeastSignificantBits(final long lsb) {
+		return (lsb & ~variantBits) | 0x8000000000000000L; // apply variant bits
+	}
+
+	/**
+	 * Engine that advances the state of the factory.
+	 */
+	interface Engine extends Function<Instant, UUID> {
+
+		/**
+		 * Fills a range of an array with UUIDs.
+		 * 
+		 * @param uuids  an array of UUIDs
+		 * @param offset the index of the first element to be filled
+		 * @param length the number of elements to be filled
+		 */
+		void apply(UUID[] uuids, int offset, int length);
+
+		/**
+		 * Writes the bits of a UUID into an array.
+		 * 
+		 * @param dst    an array of longs
+		 * @param offset the index of the most significant bits
+		 */
+		void apply(long[] dst, int offset);
 	}
 
-	static abstract class UuidFunction implements Function<Instant, UUID> {
+	static abstract class UuidFunction implements Engine {
 
 		protected long msb = 0L; // most significant bits
 		protected long lsb = 0L; // least significant bits
 
-		protected final IRandom random;
-		protected Supplier<Instant> instantFunction;
+		protected final BatchRandom random;
+		protected EpochTimeFunction timeFunction;
+		protected final OverflowPolicy overflowPolicy;
 		protected final ReentrantLock lock = new ReentrantLock();
 
 		// let go up to 1 second ahead of system clock
 		private static final long advanceMax = 1_000L;
 
-		// let's try to detect the system clock precision
-		protected static final int precision = precision();
+		// the node identifier in the trailing bits of `rand_b`
+		protected long nodeMask = 0L;
+		protected long nodeid = 0L;
+		// the least increment above the node identifier
+		protected long unit = 1L;
 
-		protected static final int PRECISION_MILLISECOND = 1;
-		protected static final int PRECISION_MICROSECOND = 2;
+		// the 48 bits of `unix_ts_ms` and the 12 bits of `rand_a`
+		protected static final long timeMask = 0x0fffffffffffffffL;
 
-		protected static final long overflow = 0x0000000000000000L;
+		public UuidFunction(IRandom random, EpochTimeFunction timeFunction, OverflowPolicy overflowPolicy) {
 
-		public UuidFunction(IRandom random, Supplier<Instant> instantFunction) {
+			this.random = new BatchRandom(random);
+			this.timeFunction = timeFunction;
+			this.overflowPolicy = overflowPolicy;
+		}
 
-			this.random = random;
-			this.instantFunction = instantFunction;
+		/**
+		 * Instantiates the internal state.
+		 * <p>
+		 * It is called after the constructor, so that subclasses can use their own
+		 * fields when the state is reset.
+		 * 
+		 * @param nodeBits the number of bits reserved for the node identifier
+		 * @param nodeid   the node identifier
+		 * @return this function
+		 */
+		UuidFunction init(final int nodeBits, final long nodeid) {
+			this.nodeMask = (1L << nodeBits) - 1;
+			this.nodeid = nodeid;
+			this.unit = 1L << nodeBits;
+			reset(this.timeFunction.getAsLong());
+			return this;
+		}
 
-			// instantiate the internal state
-			reset(this.instantFunction.get());
+		/**
+		 * Puts the node identifier in the trailing bits of the `rand_b` field.
+		 * 
+		 * @param lsb the least significant bits
+		 * @return the least significant bits with the node identifier
+		 */
+		long node(final long lsb) {
+			return (lsb & ~this.nodeMask) | this.nodeid;
 		}
 
 		@Override
@@ -310,29 +772,121 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 				if (instant != null) {
 					reset(instant); // user specified
-					return new UUID(this.msb, this.lsb);
+					return format(this.msb, this.lsb);
 				}
 
-				Instant now = instantFunction.get();
+				next(timeFunction.getAsLong());
+				return format(this.msb, this.lsb);
 
-				long lastTime = this.lastTime();
-				long time = now.toEpochMilli();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void apply(final long[] dst, final int offset) {
+			lock.lock();
+			try {
+				next(timeFunction.getAsLong());
+				dst[offset] = formatMostSignificantBits(this.msb);
+				dst[offset + 1] = formatLeastSignificantBits(this.lsb);
+			} finally {
+				lock.unlock();
+			}
+		}
 
-				// is it not too much ahead of system clock?
-				if (advanceMax > Math.abs(lastTime - time)) {
-					time = Math.max(lastTime, time);
+		@Override
+		public void apply(final UUID[] uuids, final int offset, final int length) {
+			lock.lock();
+			try {
+				long now = 0;
+				for (int i = 0; i < length; i++) {
+					if (i % BATCH_CHUNK == 0) {
+						now = timeFunction.getAsLong();
+						reserve(Math.min(length - i, BATCH_CHUNK));
+					}
+					next(now);
+					uuids[offset + i] = format(this.msb, this.lsb);
 				}
+			} finally {
+				random.release();
+				lock.unlock();
+			}
+		}
 
-				if (time == lastTime) {
-					increment(now);
-				} else {
-					reset(now);
+		/**
+		 * Draw in bulk the random bytes needed for a number of UUIDs.
+		 * 
+		 * @param count the number of UUIDs
+		 */
+		void reserve(final int count) {
+			// bytes for each increment plus bytes for a reset
+			random.reserve(count * incrementBytes() + Long.BYTES + Short.BYTES);
+		}
+
+		/**
+		 * Advance the internal state for the current time.
+		 * 
+		 * If the time repeats, the state is incremented. Otherwise, it is reset.
+		 * 
+		 * It is not synchronized. The caller is in charge of synchronization.
+		 * 
+		 * @param now the current epoch time
+		 * @see EpochTimeFunction
+		 */
+		void next(final long now) {
+
+			long lastTime = this.lastTime();
+			long time = EpochTimeFunction.toMillis(now);
+
+			// is it not too much ahead of system clock?
+			if (advanceMax > Math.abs(lastTime - time)) {
+				time = Math.max(lastTime, time);
+			}
+
+			if (time == lastTime) {
+				final long msb = this.msb;
+				final long lsb = this.lsb;
+				increment(now);
+				if (this.lastTime() != lastTime) {
+					// the increment carried into `unix_ts_ms`
+					overflow(lastTime, msb, lsb, 12);
 				}
+			} else {
+				reset(now);
+			}
+		}
+
+		/**
+		 * Apply the overflow policy after the increment carried into the time.
+		 * <p>
+		 * The carried state is kept if the policy borrows the next tick. If the
+		 * clock reached the tick returned by the policy, the state is reset with the
+		 * clock. If the policy throws an exception, the state before the increment
+		 * is restored.
+		 * 
+		 * @param tick  the exhausted tick
+		 * @param msb   the most significant bits before the increment
+		 * @param lsb   the least significant bits before the increment
+		 * @param shift the number of fraction bits dropped from the epoch time to
+		 *              get a tick
+		 */
+		void overflow(final long tick, final long msb, final long lsb, final int shift) {
 
-				return new UUID(this.msb, this.lsb);
+			final long next;
+			try {
+				next = overflowPolicy.apply(tick, () -> (timeFunction.getAsLong() & timeMask) >>> shift);
+			} catch (RuntimeException e) {
+				this.msb = msb;
+				this.lsb = lsb;
+				throw e;
+			}
 
-			} finally {
-				lock.unlock();
+			final long now = timeFunction.getAsLong() & timeMask;
+			if (now >>> shift >= next) {
+				reset(now); // the clock reached the next tick
+			} else if (next > tick + 1) {
+				reset(next << shift); // the policy skipped ticks
 			}
 		}
 
@@ -346,52 +900,61 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 		 * 
 		 * To be implemented by each specific subclass.
 		 * 
-		 * @param instant an instant
+		 * @param now the current epoch time
 		 */
-		abstract void increment(final Instant instant);
+		abstract void increment(final long now);
+
+		/**
+		 * Returns the number of random bytes consumed by each increment.
+		 * 
+		 * @return a number of bytes
+		 */
+		abstract int incrementBytes();
 
 		/**
 		 * Reset the `unix_ts_ms` field with the current milliseconds. Also set the
 		 * `rand_a` and `rand_b` fields with random bits.
 		 * 
-		 * If there's enough clock precision, inject the current microseconds into the
-		 * `rand_a` field instead of random bits.
+		 * If the time has a fraction of millisecond, inject it into the `rand_a` field
+		 * instead of random bits.
 		 * 
 		 * @param instant an instant
 		 */
 		void reset(final Instant instant) {
+			reset(EpochTimeFunction.toEpochTime(instant));
+		}
 
-			this.msb = instant.toEpochMilli() << 16;
-			this.lsb = random.nextLong();
+		/**
+		 * Reset the state with the current time.
+		 * 
+		 * @param now the current epoch time
+		 */
+		void reset(final long now) {
+
+			this.msb = EpochTimeFunction.toMillis(now) << 16;
+			this.lsb = node(random.nextLong());
 
-			if (precision == PRECISION_MILLISECOND) {
-				// lack of precision: put random bits in `rand_a`
+			if (EpochTimeFunction.toFraction(now) == 0) {
+				// millisecond precision or a whole millisecond: put random bits in `rand_a`
 				this.msb = (msb & upper48Bits) | random.nextLong(2);
 			} else {
 				// set `rand_a` field
-				microseconds(instant);
+				microseconds(now);
 			}
 		}
 
 		/**
-		 * Injects microseconds into the `rand_a` field.
+		 * Injects the fraction of the millisecond into the `rand_a` field.
 		 * <p>
-		 * It only works when the underlying runtime provides at least microsecond
-		 * precision. Otherwise, this method won't change the value in `rand_a` field.
+		 * It never makes the `rand_a` field go backwards. So it doesn't change this
+		 * field if the time source has millisecond precision.
 		 * 
-		 * @param instant an instant
+		 * @param now the current epoch time
 		 */
-		void microseconds(final Instant instant) {
+		void microseconds(final long now) {
 
-			// do nothing if not enough precision
-			if (precision == PRECISION_MILLISECOND) {
-				return;
-			}
-
-			final long shift = 12;
-			final long scale = 1_000_000L;
-			final long nanos = instant.getNano();
-			final long randa = ((nanos % scale) << shift) / scale;
+			// the fraction of the millisecond has the same layout as `rand_a`
+			final long randa = EpochTimeFunction.toFraction(now);
 
 			// previous and next and timestamps
 			final long prev = (msb & ~versionBits);
@@ -404,114 +967,113 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 		long lastTime() {
 			return this.msb >>> 16;
 		}
-
-		/**
-		 * Returns the instant precision detected.
-		 * 
-		 * @param clock a custom clock instance
-		 * @return the precision
-		 */
-		static int precision() {
-
-			Clock clock = Clock.systemUTC();
-
-			int best = 0;
-			int loop = 3; // the best of 3
-
-			for (int i = 0; i < loop; i++) {
-
-				int x = 0;
-
-				int nanosecond = clock.instant().getNano();
-
-				if (nanosecond % 1_000_000 != 0) {
-					x = PRECISION_MICROSECOND;
-				} else {
-					x = PRECISION_MILLISECOND;
-				}
-
-				best = Math.max(best, x);
-			}
-
-			return best;
-		}
 	}
 
 	static final class DefaultFunction extends UuidFunction {
 
-		public DefaultFunction(IRandom random, Supplier<Instant> instantFunction) {
-			super(random, instantFunction);
+		public DefaultFunction(IRandom random, EpochTimeFunction timeFunction, OverflowPolicy overflowPolicy) {
+			super(random, timeFunction, overflowPolicy);
 		}
 
 		@Override
-		void increment(final Instant instant) {
+		void increment(final long now) {
 
 			// set `rand_a` field
-			microseconds(instant);
+			microseconds(now);
 
 			// add 2^48 to `rand_b`
-			this.lsb = (this.lsb & upper16Bits);
-			this.lsb = (this.lsb | variantBits) + (1L << 48);
+			final long before = (this.lsb & (upper16Bits | this.nodeMask)) | variantBits;
+			this.lsb = before + (1L << 48);
 
-			if (this.lsb == overflow) {
+			if (Long.compareUnsigned(this.lsb, before) <= 0) {
 				// add 1 to `rand_a` if overflow occurs
 				this.msb = (this.msb | versionBits) + 1L;
 			}
 
 			// then randomize the lower 48 bits
-			this.lsb = (this.lsb & upper16Bits) | this.random.nextLong(6);
+			this.lsb = node((this.lsb & upper16Bits) | this.random.nextLong(6));
+		}
+
+		@Override
+		int incrementBytes() {
+			return 6;
 		}
 	}
 
 	static final class Plus1Function extends UuidFunction {
 
-		public Plus1Function(IRandom random, Supplier<Instant> instantFunction) {
-			super(random, instantFunction);
+		public Plus1Function(IRandom random, EpochTimeFunction timeFunction, OverflowPolicy overflowPolicy) {
+			super(random, timeFunction, overflowPolicy);
 		}
 
 		@Override
-		void increment(final Instant instant) {
+		void increment(final long now) {
 
 			// set `rand_a` field
-			microseconds(instant);
+			microseconds(now);
 
-			// just add 1 to `rand_b`
-			this.lsb = (this.lsb | variantBits) + 1L;
+			// just add 1 to `rand_b`, above the node identifier
+			final long before = this.lsb | variantBits;
+			this.lsb = before + this.unit;
 
-			if (this.lsb == overflow) {
+			if (Long.compareUnsigned(this.lsb, before) <= 0) {
 				// add 1 to `rand_a` if overflow occurs
 				this.msb = (this.msb | versionBits) + 1L;
 			}
 		}
+
+		@Override
+		int incrementBytes() {
+			return 0;
+		}
 	}
 
 	static final class PlusNFunction extends UuidFunction {
 
 		private final LongSupplier plusNFunction;
+		private final int incrementBytes;
 
-		public PlusNFunction(IRandom random, Supplier<Instant> instantFunction, Long incrementMax) {
-			super(random, instantFunction);
-			this.plusNFunction = customPlusNFunction(random, incrementMax);
+		public PlusNFunction(IRandom random, EpochTimeFunction timeFunction, OverflowPolicy overflowPolicy,
+				Long incrementMax) {
+			super(random, timeFunction, overflowPolicy);
+			this.plusNFunction = customPlusNFunction(this.random, incrementMax);
+			this.incrementBytes = incrementBytes(incrementMax);
 		}
 
 		@Override
-		void increment(final Instant instant) {
+		void increment(final long now) {
 
 			// set `rand_a` field
-			microseconds(instant);
+			microseconds(now);
 
 			// add a random n to `rand_b`, where 1 <= n <= incrementMax
-			this.lsb = (this.lsb | variantBits) + plusNFunction.getAsLong();
+			final long before = this.lsb | variantBits;
+			this.lsb = before + plusNFunction.getAsLong() * this.unit;
 
-			if (this.lsb == overflow) {
+			// n can jump over zero, so compare with the bits before
+			if (Long.compareUnsigned(this.lsb, before) <= 0) {
 				// add 1 to `rand_a` if overflow occurs
 				this.msb = (this.msb | versionBits) + 1L;
 			}
 		}
 
-		private LongSupplier customPlusNFunction(IRandom random, Long incrementMax) {
+		@Override
+		int incrementBytes() {
+			return this.incrementBytes;
+		}
+
+		private int incrementBytes(Long incrementMax) {
+			if (incrementMax == INCREMENT_MAX_DEFAULT) {
+				return Integer.BYTES;
+			}
+			// the minimum number of bits and bytes for incrementMax
+			final int bits = (int) Math.ceil(Math.log(incrementMax) / Math.log(2));
+			return ((bits - 1) / Byte.SIZE) + 1;
+		}
+
+		private LongSupplier customPlusNFunction(BatchRandom random, Long incrementMax) {
 			if (incrementMax == INCREMENT_MAX_DEFAULT) {
-				if (random instanceof SafeRandom) {
+				if (random.isSafe()) {
 					return () -> {
 						// return n, where 1 <= n <= 2^32
 						return random.nextLong(Integer.BYTES) + 1;
@@ -524,7 +1086,7 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 				}
 			} else {
 				final long positive = 0x7fffffffffffffffL;
-				if (random instanceof SafeRandom) {
+				if (random.isSafe()) {
 					// the minimum number of bits and bytes for incrementMax
 					final int bits = (int) Math.ceil(Math.log(incrementMax) / Math.log(2));
 					final int size = ((bits - 1) / Byte.SIZE) + 1;
@@ -541,4 +1103,361 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 			}
 		}
 	}
+
+	static final class CounterFunction extends UuidFunction {
+
+		private final int counterBits;
+		private final int randomBits; // remaining bits of `rand_b`
+		private final int randomBytes;
+		private final int seedBytes;
+		private final long randomMask;
+
+		public CounterFunction(IRandom random, EpochTimeFunction timeFunction, OverflowPolicy overflowPolicy,
+				int counterBits) {
+			super(random, timeFunction, overflowPolicy);
+			this.counterBits = counterBits;
+			this.randomBits = 74 - counterBits; // 12 bits of `rand_a` + 62 bits of `rand_b`
+			this.randomBytes = ((this.randomBits - 1) / Byte.SIZE) + 1;
+			this.seedBytes = ((counterBits - 2) / Byte.SIZE) + 1;
+			this.randomMask = (1L << this.randomBits) - 1;
+		}
+
+		@Override
+		void reset(final long now) {
+
+			// seed the counter, leaving its most significant bit clear
+			final long seed = random.nextLong(seedBytes) & ((1L << (counterBits - 1)) - 1);
+
+			// the counter is split between `rand_a` and the leading bits of `rand_b`
+			this.msb = (EpochTimeFunction.toMillis(now) << 16) | (seed >>> (counterBits - 12));
+			this.lsb = node(((seed << randomBits) & ~variantBits) | (random.nextLong(randomBytes) & randomMask));
+		}
+
+		@Override
+		void increment(final long now) {
+
+			// add 1 to the part of the counter in `rand_b`
+			final long before = (this.lsb & (~randomMask | this.nodeMask)) | variantBits;
+			this.lsb = before + (1L << randomBits);
+
+			if (Long.compareUnsigned(this.lsb, before) <= 0) {
+				// add 1 to `rand_a` if overflow occurs
+				this.msb = (this.msb | versionBits) + 1L;
+			}
+
+			// then randomize the remaining bits
+			this.lsb = node((this.lsb & ~randomMask) | (this.random.nextLong(randomBytes) & randomMask));
+		}
+
+		@Override
+		int incrementBytes() {
+			return this.randomBytes;
+		}
+	}
+
+	static final class SubMillisecondFunction extends UuidFunction {
+
+		// let go up to 1 second ahead of the time source, in 1/4096 milliseconds
+		private static final long advanceMax = 1_000L << 12;
+
+		public SubMillisecondFunction(IRandom random, EpochTimeFunction timeFunction, OverflowPolicy overflowPolicy) {
+			super(random, timeFunction, overflowPolicy);
+		}
+
+		@Override
+		void next(final long now) {
+
+			final long time = now & timeMask;
+			final long lastTime = epochTime();
+
+			// is the time repeating or not too much behind the last time?
+			if (time <= lastTime && lastTime - time < advanceMax) {
+				final long msb = this.msb;
+				final long lsb = this.lsb;
+				increment(now);
+				if (epochTime() != lastTime) {
+					// the increment carried into `rand_a`
+					overflow(lastTime, msb, lsb, 0);
+				}
+			} else {
+				reset(now);
+			}
+		}
+
+		/**
+		 * Returns the 48 bits of `unix_ts_ms` and the 12 bits of `rand_a`.
+		 * 
+		 * @return the epoch time of the state
+		 */
+		private long epochTime() {
+			return ((this.msb >>> 16) << 12) | (this.msb & 0x0fffL);
+		}
+
+		@Override
+		void reset(final long now) {
+			// set the `rand_a` field even if the fraction is zero
+			this.msb = (EpochTimeFunction.toMillis(now) << 16) | EpochTimeFunction.toFraction(now);
+			this.lsb = node(random.nextLong());
+		}
+
+		@Override
+		void increment(final long now) {
+
+			// add 2^48 to `rand_b`
+			final long before = (this.lsb & (upper16Bits | this.nodeMask)) | variantBits;
+			this.lsb = before + (1L << 48);
+
+			if (Long.compareUnsigned(this.lsb, before) <= 0) {
+				// add 1 to `rand_a` if overflow occurs
+				this.msb = (this.msb | versionBits) + 1L;
+			}
+
+			// then randomize the lower 48 bits
+			this.lsb = node((this.lsb & upper16Bits) | this.random.nextLong(6));
+		}
+
+		@Override
+		int incrementBytes() {
+			return 6;
+		}
+	}
+
+	/**
+	 * Function that keeps a state per thread.
+	 * <p>
+	 * There is no lock and no shared state. Each thread advances its own instance
+	 * of {@link UuidFunction}, so the UUIDs are monotonic within a thread only.
+	 */
+	static final class ThreadLocalFunction implements Engine {
+
+		private final ThreadLocal<UuidFunction> local;
+		private final EpochTimeFunction timeFunction;
+
+		public ThreadLocalFunction(Supplier<UuidFunction> supplier, EpochTimeFunction timeFunction) {
+			this.local = ThreadLocal.withInitial(supplier);
+			this.timeFunction = timeFunction;
+		}
+
+		@Override
+		public UUID apply(final Instant instant) {
+
+			final UuidFunction function = local.get();
+
+			if (instant != null) {
+				// user specified: the state of the thread is not changed
+				final long msb = function.msb;
+				final long lsb = function.lsb;
+				function.reset(instant);
+				final UUID uuid = format(function.msb, function.lsb);
+				function.msb = msb;
+				function.lsb = lsb;
+				return uuid;
+			}
+
+			function.next(timeFunction.getAsLong());
+			return format(function.msb, function.lsb);
+		}
+
+		@Override
+		public void apply(final long[] dst, final int offset) {
+			final UuidFunction function = local.get();
+			function.next(timeFunction.getAsLong());
+			dst[offset] = formatMostSignificantBits(function.msb);
+			dst[offset + 1] = formatLeastSignificantBits(function.lsb);
+		}
+
+		@Override
+		public void apply(final UUID[] uuids, final int offset, final int length) {
+
+			final UuidFunction function = local.get();
+
+			try {
+				long now = 0;
+				for (int i = 0; i < length; i++) {
+					if (i % BATCH_CHUNK == 0) {
+						now = timeFunction.getAsLong();
+						function.reserve(Math.min(length - i, BATCH_CHUNK));
+					}
+					function.next(now);
+					uuids[offset + i] = format(function.msb, function.lsb);
+				}
+			} finally {
+				function.random.release();
+			}
+		}
+	}
+
+	/**
+	 * Function that advances the state without locks.
+	 * <p>
+	 * The state is an immutable pair of longs, i.e. the last UUID generated. Each
+	 * thread computes the next state with its own instance of {@link UuidFunction}
+	 * and publishes it with a single compare-and-set. If another thread wins the
+	 * race, the computation is repeated on top of the new state.
+	 * <p>
+	 * Since every published state is greater than the previous one, the UUIDs are
+	 * monotonic in the order they are published.
+	 * <p>
+	 * A batch publishes one state per UUID, so other threads can interleave their
+	 * UUIDs with the batch.
+	 */
+	static final class LockFreeFunction implements Engine {
+
+		private final AtomicReference<UUID> state;
+		private final ThreadLocal<UuidFunction> local;
+		private final EpochTimeFunction timeFunction;
+
+		public LockFreeFunction(Supplier<UuidFunction> supplier, EpochTimeFunction timeFunction) {
+
+			this.local = ThreadLocal.withInitial(supplier);
+			this.timeFunction = timeFunction;
+
+			// instantiate the internal state
+			final UuidFunction function = this.local.get();
+			this.state = new AtomicReference<>(format(function.msb, function.lsb));
+		}
+
+		@Override
+		public UUID apply(final Instant instant) {
+
+			final UuidFunction function = local.get();
+
+			if (instant != null) {
+				// user specified: the shared state is not changed
+				function.reset(instant);
+				return format(function.msb, function.lsb);
+			}
+
+			return next(function, timeFunction.getAsLong());
+		}
+
+		@Override
+		public void apply(final long[] dst, final int offset) {
+			final UUID uuid = next(local.get(), timeFunction.getAsLong());
+			dst[offset] = uuid.getMostSignificantBits();
+			dst[offset + 1] = uuid.getLeastSignificantBits();
+		}
+
+		@Override
+		public void apply(final UUID[] uuids, final int offset, final int length) {
+
+			final UuidFunction function = local.get();
+
+			try {
+				long now = 0;
+				for (int i = 0; i < length; i++) {
+					if (i % BATCH_CHUNK == 0) {
+						now = timeFunction.getAsLong();
+						function.reserve(Math.min(length - i, BATCH_CHUNK));
+					}
+					uuids[offset + i] = next(function, now);
+				}
+			} finally {
+				function.random.release();
+			}
+		}
+
+		private UUID next(final UuidFunction function, final long now) {
+
+			UUID prev;
+			UUID next;
+			do {
+				prev = state.get();
+				function.msb = prev.getMostSignificantBits();
+				function.lsb = prev.getLeastSignificantBits();
+				function.next(now);
+				next = format(function.msb, function.lsb);
+			} while (!state.compareAndSet(prev, next));
+
+			return next;
+		}
+	}
+
+	/**
+	 * Random generator that can draw random bytes in bulk.
+	 * <p>
+	 * After a call to {@link #reserve(int)}, random numbers are taken from the
+	 * reserved bytes until they run out. Then they are taken from the underlying
+	 * random generator as usual.
+	 * <p>
+	 * It only reserves bytes if the underlying generator is a {@link SafeRandom},
+	 * for which each call is costly.
+	 * <p>
+	 * It is not thread-safe. The caller is in charge of synchronization.
+	 */
+	static final class BatchRandom implements IRandom {
+
+		private final IRandom random;
+
+		private byte[] buffer = EMPTY;
+		private int position = 0;
+
+		private static final byte[] EMPTY = new byte[0];
+
+		public BatchRandom(IRandom random) {
+			this.random = Objects.requireNonNull(random);
+		}
+
+		/**
+		 * Draw in bulk a number of random bytes.
+		 * 
+		 * @param length the number of bytes
+		 */
+		void reserve(final int length) {
+			if (isSafe() && length > 0) {
+				this.buffer = random.nextBytes(length);
+				this.position = 0;
+			}
+		}
+
+		/**
+		 * Discard the reserved bytes.
+		 */
+		void release() {
+			this.buffer = EMPTY;
+			this.position = 0;
+		}
+
+		/**
+		 * Check if the underlying generator is a {@link SafeRandom}.
+		 * 
+		 * @return true if it is safe
+		 */
+		boolean isSafe() {
+			return random instanceof SafeRandom;
+		}
+
+		@Override
+		public long nextLong() {
+			if (position + Long.BYTES > buffer.length) {
+				return random.nextLong();
+			}
+			return take(Long.BYTES);
+		}
+
+		@Override
+		public long nextLong(final int length) {
+			if (position + length > buffer.length) {
+				return random.nextLong(length);
+			}
+			return take(length);
+		}
+
+		@Override
+		public byte[] nextBytes(final int length) {
+			if (position + length > buffer.length) {
+				return random.nextBytes(length);
+			}
+			final byte[] bytes = new byte[length];
+			System.arraycopy(buffer, position, bytes, 0, length);
+			position += length;
+			return bytes;
+		}
+
+		private long take(final int length) {
+			final long number = ByteUtil.toNumber(buffer, position, position + length);
+			position += length;
+			return number;
+		}
+	}
 }
@@ -26,19 +26,20 @@ package com.github.f4b6a3.uuid.util.internal;
 
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.util.Random;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Utility class that provides random generator services.
  * <p>
- * The current implementation uses a pool {@link SecureRandom}.
+ * The current implementation uses a lock-free pool of {@link SecureRandom}.
  * <p>
- * The pool size depends on the number of processors available, up to a maximum
- * of 32. The minimum is 4.
+ * The pool size depends on the number of processors available, rounded up to a
+ * power of 2, up to a maximum of 64. The minimum is 4. Each thread is mapped to
+ * a pool item by a hash of its ID.
  * <p>
- * The pool items are deleted very often to avoid holding them for too long.
- * They are also deleted to avoid holding more instances than threads running.
+ * The pool items are created lazily, outside of any lock. They are replaced
+ * very often by new instances, which seed themselves, to avoid using the same
+ * seed for too long. An item is never reseeded while other threads use it.
  * <p>
  * The PRNG algorithm can be specified by system property or environment
  * variable. See {@link RandomUtil#newSecureRandom()}.
@@ -121,10 +122,8 @@ public final class RandomUtil {
 
 	private static class SecureRandomPool {
 
-		private static final Random random = new Random();
 		private static final int POOL_SIZE = processors();
-		private static final Random[] POOL = new Random[POOL_SIZE];
-		private static final ReentrantLock lock = new ReentrantLock();
+		private static final AtomicReferenceArray<SecureRandom> POOL = new AtomicReferenceArray<>(POOL_SIZE);
 
 		private SecureRandomPool() {
 		}
@@ -135,48 +134,56 @@ public final class RandomUtil {
 
 		public static byte[] nextBytes(final int length) {
 
+			// calculate the pool index given the current thread ID
+			final int index = index(Thread.currentThread().getId());
+
+			final SecureRandom random = current(index);
 			final byte[] bytes = new byte[length];
-			current().nextBytes(bytes);
+			random.nextBytes(bytes);
 
 			// every now and then
 			if (bytes.length > 0 && bytes[0x00] == 0) {
-				// delete a random item from the pool
-				delete(random.nextInt(POOL_SIZE));
+				// replace the current item
+				renew(index, random);
 			}
 
 			return bytes;
 		}
 
-		private static Random current() {
+		private static SecureRandom current(final int index) {
 
-			// calculate the pool index given the current thread ID
-			final int index = (int) Thread.currentThread().getId() % POOL_SIZE;
+			final SecureRandom random = POOL.get(index);
+			if (random != null) {
+				return random;
+			}
 
-			lock.lock();
-			try {
-				// lazy loading instance
-				if (POOL[index] == null) {
-					POOL[index] = RandomUtil.newSecureRandom();
-				}
-				return POOL[index];
-			} finally {
-				lock.unlock();
+			// lazy loading instance, created outside any lock
+			final SecureRandom created = RandomUtil.newSecureRandom();
+			if (POOL.compareAndSet(index, null, created)) {
+				return created;
 			}
+
+			// another thread won the race
+			return POOL.get(index);
 		}
 
-		private static void delete(int index) {
-			lock.lock();
-			try {
-				POOL[index] = null;
-			} finally {
-				lock.unlock();
-			}
+		private static void renew(final int index, final SecureRandom random) {
+			// a new instance seeds itself, so no other item is touched; the
+			// threads still using the old instance are not affected, and if
+			// another thread replaced it first, its instance is as good as this
+			POOL.compareAndSet(index, random, RandomUtil.newSecureRandom());
+		}
+
+		private static int index(final long id) {
+			// multiplicative hash of the thread ID
+			final long hash = id * 0x9e3779b97f4a7c15L;
+			return (int) (hash >>> 32) & (POOL_SIZE - 1);
 		}
 
 		private static int processors() {
 
 			final int min = 4;
-			final int max = 32;
+			final int max = 64;
 
 			// get the number of processors from the runtime
 			final int processors = Runtime.getRuntime().availableProcessors();
@@ -187,7 +194,8 @@ public final class RandomUtil {
 				return max;
 			}
 
-			return processors;
+			// round up to a power of 2
+			return Integer.highestOneBit(processors - 1) << 1;
 		}
 	}
 }
@@ -4,12 +4,18 @@ import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactory;
 import com.github.f4b6a3.uuid.factory.nonstandard.ShortPrefixCombFactory;
 import com.github.f4b6a3.uuid.factory.nonstandard.ShortSuffixCombFactory;
 import com.github.f4b6a3.uuid.factory.nonstandard.SuffixCombFactory;
+import com.github.f4b6a3.uuid.factory.function.RandomFunction;
+import com.github.f4b6a3.uuid.factory.function.impl.ChaCha20RandomFunction;
 import com.github.f4b6a3.uuid.factory.standard.RandomBasedFactory;
 import com.github.f4b6a3.uuid.util.UuidUtil;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.math.BigInteger;
+import java.security.SecureRandom;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -18,6 +24,7 @@ import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
 import org.junit.Test;
 
@@ -223,6 +230,119 @@ public class AbstRandomBasedFactoryTest extends UuidFactoryTest {
 		}
 	}
 
+	@Test
+	public void testBufferedRandom() {
+
+		int blockSize = 64;
+		long refreshBytes = 256;
+
+		// the expected bytes of each random generator
+		AtomicInteger seeds = new AtomicInteger();
+		AbstRandomBasedFactory.IRandom random = new AbstRandomBasedFactory.BufferedRandom(blockSize, refreshBytes,
+				() -> new Random(seeds.getAndIncrement()));
+
+		for (int seed = 0; seed < 3; seed++) {
+			Random expected = new Random(seed);
+			for (int i = 0; i < refreshBytes / blockSize; i++) {
+				byte[] block = new byte[blockSize];
+				expected.nextBytes(block);
+				ByteBuffer buffer = ByteBuffer.wrap(block);
+				for (int j = 0; j < blockSize / Long.BYTES; j++) {
+					assertEquals(buffer.getLong(), random.nextLong());
+				}
+			}
+		}
+
+		assertEquals(3, seeds.get());
+	}
+
+	@Test
+	public void testBufferedRandomNextBytes() {
+
+		int blockSize = 64;
+		long refreshBytes = 1024;
+
+		AbstRandomBasedFactory.IRandom random = new AbstRandomBasedFactory.BufferedRandom(blockSize, refreshBytes,
+				() -> new Random(1));
+
+		byte[] expected = new byte[blockSize * 4];
+		Random generator = new Random(1);
+		for (int i = 0; i < 4; i++) {
+			byte[] block = new byte[blockSize];
+			generator.nextBytes(block);
+			System.arraycopy(block, 0, expected, i * blockSize, blockSize);
+		}
+
+		// across block boundaries
+		ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+		buffer.put(random.nextBytes(10));
+		buffer.put(random.nextBytes(100));
+		buffer.put(random.nextBytes(146));
+
+		assertEquals(Arrays.toString(expected), Arrays.toString(buffer.array()));
+	}
+
+	@Test
+	public void testBufferedRandomInvalid() {
+
+		long[][] invalid = { { 15, 4096 }, { (1 << 20) + 1, 1L << 30 }, { 4096, 4095 } };
+
+		for (long[] args : invalid) {
+			try {
+				new AbstRandomBasedFactory.BufferedRandom((int) args[0], args[1]);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testThreadSafe() {
+
+		// thread-safe random sources skip the lock
+		assertTrue(RandomBasedFactory.builder().build().threadSafe);
+		assertTrue(RandomBasedFactory.builder().withFastRandom().build().threadSafe);
+		assertTrue(RandomBasedFactory.builder().withSafeRandom().build().threadSafe);
+		assertTrue(RandomBasedFactory.builder().withSafeRandom(4096).build().threadSafe);
+		assertTrue(RandomBasedFactory.builder().withRandom(new SecureRandom()).build().threadSafe);
+		assertTrue(RandomBasedFactory.builder().withRandomFunction(new ChaCha20RandomFunction()).build().threadSafe);
+		assertTrue(RandomBasedFactory.builder().withRandomFunction(() -> 0L, true).build().threadSafe);
+		assertTrue(RandomBasedFactory.builder().withRandomFunction(new ZeroFunction(true)).build().threadSafe);
+		assertTrue(PrefixCombFactory.builder().withFastRandom().build().threadSafe);
+
+		// other random sources are called under the lock
+		assertFalse(RandomBasedFactory.builder().withRandom(new Random()).build().threadSafe);
+		assertFalse(RandomBasedFactory.builder().withRandomFunction(() -> 0L).build().threadSafe);
+		assertFalse(RandomBasedFactory.builder().withRandomFunction(() -> 0L, false).build().threadSafe);
+		assertFalse(RandomBasedFactory.builder().withRandomFunction(new ZeroFunction(false)).build().threadSafe);
+		assertFalse(SuffixCombFactory.builder().withRandom(new Random()).build().threadSafe);
+	}
+
+	private static class ZeroFunction implements RandomFunction, LongSupplier {
+
+		private final boolean threadSafe;
+
+		ZeroFunction(boolean threadSafe) {
+			this.threadSafe = threadSafe;
+		}
+
+		@Override
+		public boolean isThreadSafe() {
+			return threadSafe;
+		}
+
+		@Override
+		public byte[] apply(int length) {
+			return new byte[length];
+		}
+
+		@Override
+		public long getAsLong() {
+			return 0L;
+		}
+	}
+
 	@Test
 	public void testLongRandomWithFactory() {
 
@@ -0,0 +1,206 @@
+package com.github.f4b6a3.uuid.factory;
+
+import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactory;
+import com.github.f4b6a3.uuid.factory.standard.RandomBasedFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class StripedUuidFactoryTest extends UuidFactoryTest {
+
+	@Test
+	public void testCreate() {
+
+		StripedUuidFactory factory = new StripedUuidFactory(() -> RandomBasedFactory.builder().withFastRandom().build());
+		assertEquals(UuidVersion.VERSION_RANDOM_BASED, factory.getVersion());
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+
+		checkNotNull(list);
+		checkUniqueness(list);
+		checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+	}
+
+	@Test
+	public void testCreateBatchAndInto() {
+
+		StripedUuidFactory factory = new StripedUuidFactory(PrefixCombFactory::new);
+
+		UUID[] batch = factory.createBatch(DEFAULT_LOOP_MAX);
+		checkNotNull(batch);
+		checkUniqueness(batch);
+		checkVersion(batch, UuidVersion.VERSION_RANDOM_BASED.getValue());
+
+		UUID[] list = createInto(factory);
+		checkNotNull(list);
+		checkUniqueness(list);
+		checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+	}
+
+	@Test
+	public void testStripesAreCreatedLazily() {
+
+		AtomicInteger created = new AtomicInteger();
+		StripedUuidFactory factory = new StripedUuidFactory(() -> {
+			created.incrementAndGet();
+			return new RandomBasedFactory();
+		}, 16, false);
+
+		// a single thread uses a single stripe
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			factory.create();
+		}
+
+		assertEquals(1, created.get());
+		assertEquals(1, factory.getStripes());
+	}
+
+	@Test
+	public void testStripesAreAddedOnContention() throws InterruptedException {
+
+		CountDownLatch busy = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+
+		// the first factory blocks the background thread while it holds the stripe
+		AtomicInteger created = new AtomicInteger();
+		StripedUuidFactory factory = new StripedUuidFactory(() -> {
+			final boolean first = created.getAndIncrement() == 0;
+			return wrap(new RandomBasedFactory(), () -> {
+				if (first && Thread.currentThread().getName().equals("holder")) {
+					busy.countDown();
+					try {
+						done.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			});
+		}, 16, false);
+
+		Thread holder = new Thread(factory::create, "holder");
+		holder.start();
+		busy.await();
+
+		for (int i = 0; i < 10; i++) {
+			factory.create();
+		}
+
+		done.countDown();
+		holder.join();
+
+		assertTrue(factory.getStripes() >= 2);
+		assertTrue(factory.getStripes() <= 16);
+		assertEquals(created.get(), factory.getStripes());
+	}
+
+	@Test
+	public void testAffinity() {
+
+		List<AtomicInteger> counters = new ArrayList<>();
+		StripedUuidFactory factory = new StripedUuidFactory(() -> {
+			AtomicInteger counter = new AtomicInteger();
+			synchronized (counters) {
+				counters.add(counter);
+			}
+			return wrap(new RandomBasedFactory(), counter::incrementAndGet);
+		}, 16, true);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			factory.create();
+		}
+
+		// the thread always uses the same stripe
+		int used = 0;
+		for (AtomicInteger counter : counters) {
+			if (counter.get() != 0) {
+				assertEquals(DEFAULT_LOOP_MAX, counter.get());
+				used++;
+			}
+		}
+		assertEquals(1, used);
+	}
+
+	@Test
+	public void testCreateInParallel() throws InterruptedException {
+		testCreateInParallel(false);
+		testCreateInParallel(true);
+	}
+
+	private void testCreateInParallel(boolean affinity) throws InterruptedException {
+
+		final int max = 4;
+		StripedUuidFactory factory = new StripedUuidFactory(RandomBasedFactory::new, max, affinity);
+
+		// the threads share the factory without any external synchronization
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		UUID[][] lists = new UUID[THREAD_TOTAL][DEFAULT_LOOP_MAX];
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			final UUID[] list = lists[i];
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < list.length; j++) {
+					list[j] = factory.create();
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		Set<UUID> set = new HashSet<>();
+		for (UUID[] list : lists) {
+			checkNotNull(list);
+			for (UUID uuid : list) {
+				set.add(uuid);
+			}
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, DEFAULT_LOOP_MAX * THREAD_TOTAL, set.size());
+		assertTrue(factory.getStripes() <= max);
+	}
+
+	@Test
+	public void testInvalidMaxStripes() {
+		for (int max : new int[] { 0, -1, Integer.MIN_VALUE }) {
+			try {
+				new StripedUuidFactory(RandomBasedFactory::new, max, false);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+
+	private static UuidFactory wrap(UuidFactory factory, Runnable before) {
+		return new UuidFactory(factory.getVersion()) {
+
+			@Override
+			public UUID create() {
+				before.run();
+				return factory.create();
+			}
+
+			@Override
+			public UUID create(Parameters parameters) {
+				before.run();
+				return factory.create(parameters);
+			}
+		};
+	}
+}
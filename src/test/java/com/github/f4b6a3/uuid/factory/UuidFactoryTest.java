@@ -8,6 +8,9 @@ import com.github.f4b6a3.uuid.util.UuidUtil;
 
 import static org.junit.Assert.*;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -85,6 +88,82 @@ public abstract class UuidFactoryTest {
 		assertEquals("There are duplicated UUIDs", set.size(), list.length);
 	}
 
+	protected UUID[] createInto(UuidFactory factory) {
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		long[] array = new long[3];
+		LongBuffer heap = LongBuffer.allocate(2);
+		LongBuffer direct = ByteBuffer.allocateDirect(16).asLongBuffer();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			final int index = i;
+			switch (i % 4) {
+			case 0:
+				factory.createInto(array, 1);
+				list[i] = new UUID(array[1], array[2]);
+				break;
+			case 1:
+				heap.clear();
+				factory.createInto(heap);
+				assertEquals(2, heap.position());
+				list[i] = new UUID(heap.get(0), heap.get(1));
+				break;
+			case 2:
+				direct.clear();
+				factory.createInto(direct);
+				assertEquals(2, direct.position());
+				list[i] = new UUID(direct.get(0), direct.get(1));
+				break;
+			default:
+				factory.createInto((msb, lsb) -> list[index] = new UUID(msb, lsb));
+				break;
+			}
+		}
+
+		return list;
+	}
+
+	protected UUID[] createIntoBytes(UuidFactory factory) {
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		byte[] array = new byte[17];
+		ByteBuffer heap = ByteBuffer.allocate(16);
+		ByteBuffer direct = ByteBuffer.allocateDirect(16);
+		ByteBuffer little = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			switch (i % 4) {
+			case 0:
+				factory.createInto(array, 1);
+				list[i] = bytesCodec.decode(Arrays.copyOfRange(array, 1, 17));
+				break;
+			case 1:
+				heap.clear();
+				factory.createInto(heap);
+				assertEquals(16, heap.position());
+				list[i] = bytesCodec.decode(heap.array());
+				break;
+			case 2:
+				direct.clear();
+				factory.createInto(direct);
+				assertEquals(16, direct.position());
+				direct.flip();
+				byte[] bytes = new byte[16];
+				direct.get(bytes);
+				list[i] = bytesCodec.decode(bytes);
+				break;
+			default:
+				little.clear();
+				factory.createInto(little);
+				assertEquals(16, little.position());
+				list[i] = bytesCodec.decode(little.array());
+				break;
+			}
+		}
+
+		return list;
+	}
+
 	protected void testGetAbstractTimeBased(AbstTimeBasedFactory factory, boolean multicast) {
 
 		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
@@ -0,0 +1,113 @@
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class ChaCha20RandomFunctionTest {
+
+	private static final int DEFAULT_LOOP_MAX = 100_000;
+
+	@Test
+	public void testBlock() {
+
+		// RFC 8439, section 2.3.2
+		int[] input = { //
+				0x61707865, 0x3320646e, 0x79622d32, 0x6b206574, //
+				0x03020100, 0x07060504, 0x0b0a0908, 0x0f0e0d0c, //
+				0x13121110, 0x17161514, 0x1b1a1918, 0x1f1e1d1c, //
+				0x00000001, 0x09000000, 0x4a000000, 0x00000000 };
+
+		int[] expected = { //
+				0xe4e7f110, 0x15593bd1, 0x1fdd0f50, 0xc47120a3, //
+				0xc7f4d1c7, 0x0368c033, 0x9aaa2204, 0x4e6cd4c3, //
+				0x466482d2, 0x09aa9f07, 0x05d7c214, 0xa2028bd9, //
+				0xd19c12b5, 0xb94e16de, 0xe883d0cb, 0x4e3c50a2 };
+
+		int[] output = new int[16];
+		ChaCha20RandomFunction.block(input, output);
+
+		assertArrayEquals(expected, output);
+	}
+
+	@Test
+	public void testGetAsLong() {
+		ChaCha20RandomFunction function = new ChaCha20RandomFunction();
+		Set<Long> set = new HashSet<>();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			set.add(function.getAsLong());
+		}
+		assertEquals(DEFAULT_LOOP_MAX, set.size());
+	}
+
+	@Test
+	public void testApply() {
+		ChaCha20RandomFunction function = new ChaCha20RandomFunction();
+		Set<String> set = new HashSet<>();
+		for (int length = 0; length < 100; length++) {
+			byte[] bytes = function.apply(length);
+			assertEquals(length, bytes.length);
+			if (length >= 8) {
+				assertTrue(set.add(Arrays.toString(bytes)));
+			}
+		}
+	}
+
+	@Test
+	public void testReseed() {
+		// a new key for every block
+		ChaCha20RandomFunction function = new ChaCha20RandomFunction(64);
+		Set<Long> set = new HashSet<>();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			set.add(function.getAsLong());
+		}
+		assertEquals(DEFAULT_LOOP_MAX, set.size());
+	}
+
+	@Test
+	public void testReseedInvalid() {
+		for (long reseedBytes : new long[] { -1, 0, 63, (1L << 38) + 1 }) {
+			try {
+				new ChaCha20RandomFunction(reseedBytes);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testGetAsLongInParallel() throws InterruptedException {
+
+		final int threadTotal = Math.max(4, Runtime.getRuntime().availableProcessors());
+		final ChaCha20RandomFunction function = new ChaCha20RandomFunction();
+
+		Set<Long> set = new HashSet<>();
+		Thread[] threads = new Thread[threadTotal];
+
+		for (int i = 0; i < threadTotal; i++) {
+			threads[i] = new Thread(() -> {
+				long[] numbers = new long[DEFAULT_LOOP_MAX];
+				for (int j = 0; j < DEFAULT_LOOP_MAX; j++) {
+					numbers[j] = function.getAsLong();
+				}
+				synchronized (set) {
+					for (long number : numbers) {
+						set.add(number);
+					}
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(threadTotal * DEFAULT_LOOP_MAX, set.size());
+	}
+}
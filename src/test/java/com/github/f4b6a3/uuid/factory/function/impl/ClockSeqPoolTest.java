@@ -122,6 +122,123 @@ public class ClockSeqPoolTest {
 		assertEquals("Duplicate clock sequence", CLOCK_SEQUENCE_MAX, unique.size());
 	}
 
+	@Test
+	public void testClockSequencePoolWrapAround() {
+
+		ClockSeqPool pool = new ClockSeqPool();
+
+		// the values after the last one are the first ones
+		assertEquals(CLOCK_SEQUENCE_MAX - 1, pool.take(CLOCK_SEQUENCE_MAX - 1));
+		assertEquals(0, pool.take(CLOCK_SEQUENCE_MAX - 1));
+		assertEquals(1, pool.take(CLOCK_SEQUENCE_MAX - 1));
+
+		// the free values below the start of a word are found after wrapping around
+		pool = new ClockSeqPool();
+		for (int i = 0; i < CLOCK_SEQUENCE_MAX; i++) {
+			if (i != 100) {
+				pool.take(i);
+			}
+		}
+		assertEquals(100, pool.take(101));
+		assertEquals(CLOCK_SEQUENCE_MAX, pool.countUsed());
+		assertEquals(0, pool.countFree());
+	}
+
+	@Test
+	public void testClockSequencePoolTryTake() {
+
+		ClockSeqPool pool = new ClockSeqPool();
+		for (int i = 0; i < CLOCK_SEQUENCE_MAX; i++) {
+			assertEquals(i, pool.tryTake(i));
+		}
+
+		// a full pool is not cleared
+		assertEquals(-1, pool.tryTake(0));
+		assertEquals(CLOCK_SEQUENCE_MAX, pool.countUsed());
+	}
+
+	@Test
+	public void testClockSequencePoolReserved() {
+
+		ClockSeqPool reserved = new ClockSeqPool();
+		ClockSeqPool pool = new ClockSeqPool(reserved);
+
+		for (int i = 0; i < TEST_ARRAY.length; i++) {
+			reserved.take(TEST_ARRAY[i]);
+		}
+
+		// the reserved values are skipped, even after the pool is cleared
+		HashSet<Integer> set = new HashSet<>();
+		for (int i = 0; i < 2 * CLOCK_SEQUENCE_MAX; i++) {
+			int value = pool.take(i);
+			assertTrue("The value should not be reserved", reserved.isFree(value));
+			set.add(value);
+		}
+		assertEquals(CLOCK_SEQUENCE_MAX - TEST_ARRAY.length, set.size());
+	}
+
+	@Test
+	public void testClockSequencePoolRelease() {
+
+		ClockSeqPool pool = new ClockSeqPool();
+
+		for (int i = 0; i < TEST_ARRAY.length; i++) {
+			assertEquals(TEST_ARRAY[i], pool.take(TEST_ARRAY[i]));
+		}
+
+		for (int i = 0; i < TEST_ARRAY.length; i++) {
+			pool.release(TEST_ARRAY[i]);
+			assertTrue("The value should be free", pool.isFree(TEST_ARRAY[i]));
+			assertEquals(TEST_ARRAY.length - i - 1, pool.countUsed());
+		}
+
+		// ignore values out of range
+		pool.release(-1);
+		pool.release(CLOCK_SEQUENCE_MAX);
+
+		// a released value can be taken again
+		assertEquals(TEST_ARRAY[0], pool.take(TEST_ARRAY[0]));
+		assertEquals(1, pool.countUsed());
+	}
+
+	@Test
+	public void testClockSequencePoolTakeAndReleaseInParallel() throws InterruptedException {
+
+		ClockSeqPool pool = new ClockSeqPool();
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		final int[][] taken = new int[THREAD_TOTAL][CLOCK_SEQUENCE_MAX / THREAD_TOTAL];
+
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			final int[] values = taken[i];
+			threads[i] = new Thread(() -> {
+				// take and release half of the values many times
+				for (int round = 0; round < 10; round++) {
+					for (int j = 0; j < values.length; j++) {
+						values[j] = pool.random();
+					}
+					if (round < 9) {
+						for (int j = 0; j < values.length; j++) {
+							pool.release(values[j]);
+						}
+					}
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		HashSet<Integer> unique = new HashSet<>();
+		for (int[] values : taken) {
+			for (int value : values) {
+				assertTrue("Duplicate clock sequence", unique.add(value));
+			}
+		}
+		assertEquals(unique.size(), pool.countUsed());
+	}
+
 	private static class TestThread extends Thread {
 
 		private int index;
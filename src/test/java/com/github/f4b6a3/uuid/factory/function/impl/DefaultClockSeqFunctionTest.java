@@ -11,6 +11,7 @@ import com.github.f4b6a3.uuid.util.UuidUtil;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.Assert.*;
 
@@ -35,6 +36,7 @@ public class DefaultClockSeqFunctionTest {
 		// Reset the static ClockSequenceController
 		// It could affect the test cases
 		DefaultClockSeqFunction.POOL.clearPool();
+		DefaultClockSeqFunction.LEASES.clearPool();
 	}
 
 	@Test()
@@ -153,6 +155,91 @@ public class DefaultClockSeqFunctionTest {
 		assertEquals("Duplicate clock sequence", CLOCK_SEQUENCE_MAX, unique.size());
 	}
 
+	@Test
+	public void testLeaseWhenPoolIsExhausted() throws InterruptedException {
+
+		final int free = 4;
+
+		// lease all values
+		HashSet<Integer> leased = new HashSet<>();
+		try {
+			while (true) {
+				assertTrue(leased.add(DefaultClockSeqFunction.lease()));
+			}
+		} catch (IllegalStateException e) {
+			// success
+		}
+
+		try {
+			// give back a few values
+			Integer[] values = leased.toArray(new Integer[0]);
+			for (int i = 0; i < free; i++) {
+				leased.remove(values[i]);
+				DefaultClockSeqFunction.release(values[i]);
+			}
+
+			// other factories go around the pool and clear it
+			DefaultClockSeqFunction function = new DefaultClockSeqFunction();
+			for (int i = 0; i < 2 * CLOCK_SEQUENCE_MAX; i++) {
+				assertFalse(leased.contains(function.next()));
+			}
+
+			// each thread holds one of the free values
+			TimeBasedFactory factory = TimeBasedFactory.builder().withStripedClockSeq().build();
+			final int[] clockseqs = new int[free];
+			for (int i = 0; i < free; i++) {
+				final int index = i;
+				Thread thread = new Thread(() -> {
+					clockseqs[index] = UuidUtil.getClockSequence(factory.create());
+				});
+				thread.start();
+				thread.join();
+			}
+
+			// no two active stripes share a clock sequence
+			HashSet<Integer> set = new HashSet<>();
+			for (int clockseq : clockseqs) {
+				assertFalse(leased.contains(clockseq));
+				assertTrue(set.add(clockseq));
+				assertTrue(DefaultClockSeqFunction.LEASES.isUsed(clockseq));
+			}
+
+			// clearing the other pool does not free them
+			DefaultClockSeqFunction.POOL.clearPool();
+			for (int clockseq : clockseqs) {
+				assertTrue(DefaultClockSeqFunction.LEASES.isUsed(clockseq));
+			}
+		} finally {
+			for (int clockseq : leased) {
+				DefaultClockSeqFunction.release(clockseq);
+			}
+		}
+	}
+
+	@Test
+	public void testLeasesOfDroppedFactory() throws InterruptedException {
+
+		final AtomicLong clock = new AtomicLong(System.currentTimeMillis() * UuidTime.TICKS_PER_MILLI);
+
+		// this thread outlives the factory
+		TimeBasedFactory factory = TimeBasedFactory.builder().withTimeFunction(clock::get).withStripedClockSeq()
+				.build();
+		final int clockseq = UuidUtil.getClockSequence(factory.create());
+		assertTrue(DefaultClockSeqFunction.LEASES.isUsed(clockseq));
+
+		// the lease is returned after the time stamps it may have used
+		factory = null;
+
+		TimeBasedFactory other = TimeBasedFactory.builder().withStripedClockSeq().build();
+		for (int i = 0; i < 50 && DefaultClockSeqFunction.LEASES.isUsed(clockseq); i++) {
+			System.gc();
+			Thread.sleep(100);
+			clock.addAndGet(UuidTime.TICKS_PER_SECOND);
+			other.getActiveStripes();
+		}
+		assertFalse(DefaultClockSeqFunction.LEASES.isUsed(clockseq));
+	}
+
 	private static class TestThread extends Thread {
 
 		private int index;
@@ -5,9 +5,14 @@ import org.junit.Test;
 import static org.junit.Assert.*;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
 
 public class DefaultTimeFunctionTest {
 
@@ -62,4 +67,120 @@ public class DefaultTimeFunctionTest {
 			lastTs = ts;
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testGetTimestampWithOverflowPolicy() {
+
+		// 1ms = 10,000 ticks
+		final long millis = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+		Clock clock = Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+
+		// borrow the next millisecond after 10,000 ticks
+		BorrowOverflowPolicy borrow = OverflowPolicy.borrow();
+		DefaultTimeFunction function = new DefaultTimeFunction(clock, borrow);
+		long last = 0;
+		for (int i = 0; i < 10_000; i++) {
+			last = function.getAsLong();
+		}
+		assertEquals(0, borrow.getCount());
+		assertTrue(function.getAsLong() > last);
+		assertEquals(1, borrow.getCount());
+
+		// never go ahead of the clock
+		FailOverflowPolicy fail = OverflowPolicy.fail();
+		function = new DefaultTimeFunction(clock, fail);
+		int count = 0;
+		try {
+			for (; count < 20_000; count++) {
+				function.getAsLong();
+			}
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals(10_000, count);
+			assertEquals(1, fail.getCount());
+		}
+	}
+
+	@Test
+	public void testGetTimestampWithWaitingOverflowPolicy() {
+
+		// 1ms = 10,000 ticks
+		final long millis = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+		for (AbstOverflowPolicy policy : new AbstOverflowPolicy[] { OverflowPolicy.spin(), OverflowPolicy.park() }) {
+
+			// the clock advances 1 millisecond every 12,000 readings
+			SteppingClock clock = new SteppingClock(millis, 12_000);
+			DefaultTimeFunction function = new DefaultTimeFunction(clock, policy);
+
+			// wait for the clock instead of going ahead of it
+			long last = 0;
+			for (int i = 0; i < 30_000; i++) {
+				long ts = function.getAsLong();
+				assertTrue(ts > last);
+				// TS can be 1ms ahead due to counter shift
+				assertTrue(ts / 10_000 <= clock.last + 1);
+				last = ts;
+			}
+			assertTrue(policy.getCount() > 0);
+		}
+
+		final Duration maxWait = Duration.ofMillis(10);
+		SpinOverflowPolicy spin = new SpinOverflowPolicy(maxWait);
+		ParkOverflowPolicy park = new ParkOverflowPolicy(maxWait);
+		Clock clock = Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+
+		for (OverflowPolicy policy : new OverflowPolicy[] { spin, park }) {
+
+			// the clock stands still: give up after the maximum wait
+			DefaultTimeFunction function = new DefaultTimeFunction(clock, policy);
+			int count = 0;
+			try {
+				for (; count < 20_000; count++) {
+					function.getAsLong();
+				}
+				fail();
+			} catch (IllegalStateException e) {
+				assertEquals(10_000, count);
+			}
+		}
+
+		assertEquals(1, spin.getTimeoutCount());
+		assertEquals(1, park.getTimeoutCount());
+	}
+
+	private static class SteppingClock extends Clock {
+
+		private final long start;
+		private final long readings;
+		private final AtomicLong count = new AtomicLong();
+
+		private volatile long last;
+
+		public SteppingClock(long start, long readings) {
+			this.start = start;
+			this.readings = readings;
+		}
+
+		@Override
+		public long millis() {
+			last = start + count.incrementAndGet() / readings;
+			return last;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+}
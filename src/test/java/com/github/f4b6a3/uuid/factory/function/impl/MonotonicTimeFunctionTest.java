@@ -0,0 +1,175 @@
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.f4b6a3.uuid.factory.function.EpochTimeFunction;
+
+public class MonotonicTimeFunctionTest {
+
+	private static final int DEFAULT_LOOP_MAX = 1_000_000;
+
+	@Test
+	public void testGetTimestampMillisecond() {
+		// 1ms = 10,000 ticks
+		MonotonicTimeFunction function = new MonotonicTimeFunction();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			long m1 = System.currentTimeMillis();
+			long ts = function.getAsLong() / 10000L;
+			// the wall clock and the monotonic clock can differ a little
+			long m2 = System.currentTimeMillis() + 100L;
+			assertTrue("The current timstamp millisecond is incorrect", ts >= m1 - 100L && ts <= m2);
+		}
+	}
+
+	@Test
+	public void testGetTimestampMonotonicity() {
+		long lastTs = 0;
+		MonotonicTimeFunction function = new MonotonicTimeFunction();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			long ts = function.getAsLong();
+			assertTrue("The current timstamp should be greater than the previous one", ts > lastTs);
+			lastTs = ts;
+		}
+	}
+
+	@Test
+	public void testEpochTimeFunction() {
+		for (boolean shared : new boolean[] { true, false }) {
+			long last = 0;
+			EpochTimeFunction function = new MonotonicTimeFunction().asEpochTimeFunction(shared);
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				long m1 = System.currentTimeMillis();
+				long time = function.getAsLong();
+				long m2 = System.currentTimeMillis() + 100L;
+				long ms = EpochTimeFunction.toMillis(time);
+				assertTrue("The current millisecond is incorrect", ms >= m1 - 100L && ms <= m2);
+				// a single thread never sees the time going backwards
+				assertTrue("The time should not go backwards", time >= last);
+				last = time;
+			}
+		}
+	}
+
+	@Test
+	public void testMonotonicityInParallel() throws InterruptedException {
+
+		// the wall clock is always behind: re-anchor often and slew back
+		Clock clock = Clock.fixed(Instant.now().minusSeconds(60), ZoneOffset.UTC);
+		MonotonicTimeFunction function = new MonotonicTimeFunction(clock, Duration.ofNanos(1_000));
+		EpochTimeFunction epochTimeFunction = function.asEpochTimeFunction();
+
+		final int threadCount = 8;
+		final int loopMax = 100_000;
+		final AtomicLong errors = new AtomicLong();
+		final Set<Long> set = ConcurrentHashMap.newKeySet();
+
+		Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			threads[i] = new Thread(() -> {
+				long lastTs = Long.MIN_VALUE;
+				long lastTime = Long.MIN_VALUE;
+				for (int j = 0; j < loopMax; j++) {
+					long ts = function.getAsLong();
+					long time = epochTimeFunction.getAsLong();
+					if (ts <= lastTs || time < lastTime || !set.add(ts)) {
+						errors.incrementAndGet();
+					}
+					lastTs = ts;
+					lastTime = time;
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals("The time should not go backwards", 0, errors.get());
+		assertEquals(threadCount * loopMax, set.size());
+	}
+
+	@Test
+	public void testClockGoingBack() throws InterruptedException {
+
+		MovingClock clock = new MovingClock();
+		EpochTimeFunction function = new MonotonicTimeFunction(clock, Duration.ofMillis(1)).asEpochTimeFunction();
+
+		// 50ms back
+		clock.offset.set(-50L);
+
+		long last = 0;
+		final long end = System.nanoTime() + 2_000_000_000L;
+		while (System.nanoTime() < end) {
+			long time = function.getAsLong();
+			assertTrue("The time should not go backwards", time >= last);
+			last = time;
+		}
+
+		// the difference is gone after slewing
+		long ms = EpochTimeFunction.toMillis(function.getAsLong());
+		assertTrue("The time should be close to the clock", Math.abs(ms - clock.millis()) <= 5);
+	}
+
+	@Test
+	public void testClockGoingForward() throws InterruptedException {
+
+		MovingClock clock = new MovingClock();
+		MonotonicTimeFunction function = new MonotonicTimeFunction(clock, Duration.ofMillis(1));
+
+		// one hour ahead
+		clock.offset.set(3_600_000L);
+		Thread.sleep(10);
+
+		long ms = function.getAsLong() / 10000L;
+		assertTrue("The time should jump forward", Math.abs(ms - clock.millis()) <= 5);
+	}
+
+	@Test
+	public void testInvalidPeriod() {
+		try {
+			new MonotonicTimeFunction(Clock.systemUTC(), Duration.ZERO);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	private static class MovingClock extends Clock {
+
+		private final long start = System.nanoTime();
+		private final long base = System.currentTimeMillis();
+		private final AtomicLong offset = new AtomicLong();
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public long millis() {
+			return base + (System.nanoTime() - start) / 1_000_000L + offset.get();
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
+
+public class OverflowPolicyTest {
+
+	@Test
+	public void testBorrow() {
+		BorrowOverflowPolicy policy = OverflowPolicy.borrow();
+		assertEquals(101, policy.apply(100, () -> 100));
+		assertEquals(101, policy.apply(100, () -> 50));
+		assertEquals(2, policy.getCount());
+	}
+
+	@Test
+	public void testSpin() {
+		SpinOverflowPolicy policy = OverflowPolicy.spin();
+		final AtomicLong clock = new AtomicLong(100);
+		// the clock advances 1 tick every 10 readings
+		assertEquals(101, policy.apply(100, () -> clock.incrementAndGet() / 10));
+		assertEquals(1, policy.getCount());
+		assertEquals(0, policy.getTimeoutCount());
+		assertTrue(policy.getWaitNanos() > 0);
+	}
+
+	@Test
+	public void testPark() {
+		ParkOverflowPolicy policy = OverflowPolicy.park();
+		final AtomicLong clock = new AtomicLong(100);
+		assertEquals(101, policy.apply(100, clock::incrementAndGet));
+		assertEquals(1, policy.getCount());
+		assertEquals(0, policy.getTimeoutCount());
+		assertTrue(policy.getWaitNanos() > 0);
+	}
+
+	@Test
+	public void testFail() {
+		FailOverflowPolicy policy = OverflowPolicy.fail();
+		for (int i = 1; i <= 3; i++) {
+			try {
+				policy.apply(100, () -> 100);
+				fail();
+			} catch (IllegalStateException e) {
+				assertEquals(i, policy.getCount());
+			}
+		}
+	}
+
+	@Test
+	public void testTimeout() {
+
+		final Duration maxWait = Duration.ofMillis(10);
+		SpinOverflowPolicy spin = new SpinOverflowPolicy(maxWait);
+		ParkOverflowPolicy park = new ParkOverflowPolicy(maxWait);
+
+		// the clock stands still
+		for (OverflowPolicy policy : new OverflowPolicy[] { spin, park }) {
+			try {
+				policy.apply(100, () -> 100);
+				fail();
+			} catch (IllegalStateException e) {
+				// success
+			}
+		}
+
+		assertEquals(1, spin.getTimeoutCount());
+		assertEquals(1, park.getTimeoutCount());
+		assertTrue(spin.getWaitNanos() >= maxWait.toNanos());
+		assertTrue(park.getWaitNanos() >= maxWait.toNanos());
+	}
+
+	@Test
+	public void testInvalidMaxWait() {
+		for (Duration maxWait : new Duration[] { null, Duration.ZERO, Duration.ofMillis(-1) }) {
+			try {
+				new SpinOverflowPolicy(maxWait);
+				fail();
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+			try {
+				new ParkOverflowPolicy(maxWait);
+				fail();
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package com.github.f4b6a3.uuid.factory.function.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.f4b6a3.uuid.factory.standard.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeOrderedEpochFactory;
+import com.github.f4b6a3.uuid.util.UuidUtil;
+
+public class TickingClockTest {
+
+	private static final int DEFAULT_LOOP_MAX = 1_000;
+
+	@Test
+	public void testMillis() throws InterruptedException {
+		try (TickingClock clock = new TickingClock()) {
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				long m1 = System.currentTimeMillis();
+				long ms = clock.millis();
+				long m2 = System.currentTimeMillis();
+				// can lag behind the system clock for a while
+				assertTrue("The current millisecond is incorrect", ms >= m1 - 1_000L && ms <= m2);
+			}
+
+			long m1 = clock.millis();
+			Thread.sleep(50);
+			long m2 = clock.millis();
+			assertTrue("The clock is not ticking", m2 > m1);
+		}
+	}
+
+	@Test
+	public void testInstantWithClock() {
+		Instant instant = Instant.parse("2024-01-01T00:00:00.123Z");
+		try (TickingClock clock = new TickingClock(Clock.fixed(instant, ZoneOffset.UTC))) {
+			assertEquals(instant, clock.instant());
+			assertEquals(instant.toEpochMilli(), clock.millis());
+			assertEquals(instant.toEpochMilli(), clock.asEpochTimeFunction().getAsLong() >> 12);
+			assertEquals(ZoneOffset.UTC, clock.getZone());
+			assertSame(clock, clock.withZone(ZoneOffset.UTC));
+			assertEquals(ZoneId.of("America/Sao_Paulo"), clock.withZone(ZoneId.of("America/Sao_Paulo")).getZone());
+		}
+	}
+
+	@Test
+	public void testJumps() throws InterruptedException {
+		MutableClock mutable = new MutableClock(System.currentTimeMillis());
+		try (TickingClock clock = new TickingClock(mutable)) {
+
+			// one hour back
+			mutable.millis.addAndGet(-3_600_000L);
+
+			for (int i = 0; i < DEFAULT_LOOP_MAX && clock.getJumps() == 0; i++) {
+				Thread.sleep(5);
+			}
+
+			assertEquals(1, clock.getJumps());
+			assertEquals(mutable.millis(), clock.millis());
+		}
+	}
+
+	@Test
+	public void testClose() throws InterruptedException {
+		MutableClock mutable = new MutableClock(0);
+		TickingClock clock = new TickingClock(mutable, Duration.ofHours(1));
+		assertTrue(clock.isRunning());
+
+		clock.close();
+		assertFalse(clock.isRunning());
+
+		// reads the underlying clock directly
+		mutable.millis.set(12345);
+		assertEquals(12345, clock.millis());
+		assertEquals(12345, clock.asEpochTimeFunction().getAsLong() >> 12);
+	}
+
+	@Test
+	public void testInvalidPeriod() {
+		try {
+			new TickingClock(Clock.systemUTC(), Duration.ZERO).close();
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			new TickingClock(Clock.systemUTC(), Duration.ofMillis(-1)).close();
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testWithFactories() {
+		Instant instant = Instant.parse("2024-01-01T00:00:00.123Z");
+		try (TickingClock clock = new TickingClock(Clock.fixed(instant, ZoneOffset.UTC))) {
+
+			UUID uuid1 = TimeOrderedEpochFactory.builder().withClock(clock).build().create();
+			assertEquals(instant, UuidUtil.getInstant(uuid1));
+
+			UUID uuid2 = TimeBasedFactory.builder().withClock(clock).build().create();
+			// can be 1ms ahead due to counter shift
+			long millis2 = UuidUtil.getInstant(uuid2).toEpochMilli();
+			assertTrue(millis2 >= instant.toEpochMilli() && millis2 <= instant.toEpochMilli() + 1);
+
+			UUID uuid3 = TimeBasedFactory.builder().withClock(clock).withLockFree().build().create();
+			assertEquals(instant, UuidUtil.getInstant(uuid3));
+		}
+	}
+
+	private static class MutableClock extends Clock {
+
+		private final AtomicLong millis;
+
+		public MutableClock(long millis) {
+			this.millis = new AtomicLong(millis);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public long millis() {
+			return millis.get();
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+	}
+}
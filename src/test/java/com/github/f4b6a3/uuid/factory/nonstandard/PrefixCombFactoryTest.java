@@ -10,6 +10,7 @@ import com.github.f4b6a3.uuid.util.UuidTime;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -17,6 +18,7 @@ import java.util.Arrays;
 import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 
 public class PrefixCombFactoryTest extends UuidFactoryTest {
@@ -37,6 +39,14 @@ public class PrefixCombFactoryTest extends UuidFactoryTest {
 		checkUniqueness(list);
 	}
 
+	@Test
+	public void testCreateIntoBytes() {
+		UUID[] list = createIntoBytes(new PrefixCombFactory());
+		checkNotNull(list);
+		checkVersion(list, 4);
+		checkUniqueness(list);
+	}
+
 	@Test
 	public void testGetPrefixCombCheckTimestamp() {
 
@@ -58,6 +68,145 @@ public class PrefixCombFactoryTest extends UuidFactoryTest {
 		}
 	}
 
+	@Test
+	public void testGetPrefixCombWithTimeFunction() {
+
+		SplittableRandom random = new SplittableRandom(1);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			long time = random.nextLong(1L << 48);
+			Instant instant = Instant.ofEpochMilli(time);
+
+			UUID uuid1 = PrefixCombFactory.builder().withTimeFunction(() -> time).build().create();
+			UUID uuid2 = PrefixCombFactory.builder().withInstantFunction(() -> instant).build().create();
+			UUID uuid3 = PrefixCombFactory.builder().withEpochTimeFunction(() -> time << 12).build().create();
+
+			assertEquals(time, CombUtil.getPrefix(uuid1));
+			assertEquals(time, CombUtil.getPrefix(uuid2));
+			assertEquals(time, CombUtil.getPrefix(uuid3));
+		}
+	}
+
+	@Test
+	public void testGetPrefixCombWithIncrement() {
+
+		final long time = System.currentTimeMillis();
+
+		PrefixCombFactory[] factories = { //
+				PrefixCombFactory.builder().withTimeFunction(() -> time).withIncrementPlus1().build(),
+				PrefixCombFactory.builder().withTimeFunction(() -> time).withIncrementPlusN().build(),
+				PrefixCombFactory.builder().withTimeFunction(() -> time).withIncrementPlusN(16).build(),
+				PrefixCombFactory.builder().withTimeFunction(() -> time).withFastRandom().withIncrementPlus1().build() };
+
+		for (PrefixCombFactory factory : factories) {
+
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				list[i] = factory.create();
+			}
+
+			checkNotNull(list);
+			checkVersion(list, 4);
+			checkUniqueness(list);
+
+			// the same millisecond in ascending order
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				assertEquals(time, CombUtil.getPrefix(list[i]));
+				if (i > 0) {
+					assertTrue("The UUID list is not ordered", compareUnsigned(list[i - 1], list[i]) < 0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testGetPrefixCombWithIncrementOverflow() {
+
+		final long time = System.currentTimeMillis();
+
+		// all random bits set: the first increment overflows into the prefix
+		PrefixCombFactory factory = PrefixCombFactory.builder().withTimeFunction(() -> time)
+				.withRandomFunction(() -> 0xffffffffffffffffL).withIncrementPlus1().build();
+
+		UUID uuid1 = factory.create();
+		UUID uuid2 = factory.create();
+
+		assertEquals(time, CombUtil.getPrefix(uuid1));
+		assertEquals(time + 1, CombUtil.getPrefix(uuid2));
+		assertTrue(compareUnsigned(uuid1, uuid2) < 0);
+	}
+
+	@Test
+	public void testGetPrefixCombWithIncrementAndClockGoingBack() {
+
+		final long time = System.currentTimeMillis();
+		final AtomicLong clock = new AtomicLong(time);
+
+		PrefixCombFactory factory = PrefixCombFactory.builder().withTimeFunction(clock::get).withIncrementPlusN()
+				.build();
+
+		// the clock steps back and forth, but less than 1 second
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			clock.set(time + (i % 10 == 9 ? -10 : i % 10));
+			list[i] = factory.create();
+			if (i > 0) {
+				assertTrue("The UUID list is not ordered", compareUnsigned(list[i - 1], list[i]) < 0);
+			}
+			assertTrue(CombUtil.getPrefix(list[i]) >= time);
+		}
+
+		// the clock goes back more than 1 second: the state is drawn again
+		clock.set(time - 2_000);
+		assertEquals(time - 2_000, CombUtil.getPrefix(factory.create()));
+	}
+
+	@Test
+	public void testGetPrefixCombWithIncrementOverflowAndClockCatchingUp() {
+
+		final long time = System.currentTimeMillis();
+		final AtomicLong clock = new AtomicLong(time);
+
+		// all bits set for the first state, then all bits clear
+		final AtomicLong calls = new AtomicLong();
+		PrefixCombFactory factory = PrefixCombFactory.builder().withTimeFunction(clock::get)
+				.withRandomFunction(() -> calls.incrementAndGet() <= 2 ? 0xffffffffffffffffL : 0L)
+				.withIncrementPlus1().build();
+
+		UUID uuid1 = factory.create();
+		UUID uuid2 = factory.create(); // carries into the prefix
+
+		// the clock reaches the carried prefix
+		clock.set(time + 1);
+		UUID uuid3 = factory.create();
+
+		assertEquals(time + 1, CombUtil.getPrefix(uuid2));
+		assertEquals(time + 1, CombUtil.getPrefix(uuid3));
+		assertTrue(compareUnsigned(uuid1, uuid2) < 0);
+		assertTrue(compareUnsigned(uuid2, uuid3) < 0);
+	}
+
+	@Test
+	public void testGetPrefixCombWithInvalidIncrement() {
+		for (long incrementMax : new long[] { 0, -1, Long.MIN_VALUE }) {
+			try {
+				PrefixCombFactory.builder().withIncrementPlusN(incrementMax).build();
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+
+	private static int compareUnsigned(UUID uuid1, UUID uuid2) {
+		final int msb = Long.compareUnsigned(uuid1.getMostSignificantBits(), uuid2.getMostSignificantBits());
+		if (msb != 0) {
+			return msb;
+		}
+		return Long.compareUnsigned(uuid1.getLeastSignificantBits(), uuid2.getLeastSignificantBits());
+	}
+
 	@Test
 	public void testGetPrefixCombCheckTime() {
 
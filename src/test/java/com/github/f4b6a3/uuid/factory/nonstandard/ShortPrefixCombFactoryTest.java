@@ -7,11 +7,13 @@ import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.Arrays;
 import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 
 public class ShortPrefixCombFactoryTest extends UuidFactoryTest {
@@ -142,6 +144,77 @@ public class ShortPrefixCombFactoryTest extends UuidFactoryTest {
 		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
 	}
 
+	@Test
+	public void testGetShortPrefixCombWithIncrement() {
+
+		final long time = System.currentTimeMillis();
+		final long prefix = (time / DEFAULT_INTERVAL) & 0x000000000000ffffL;
+
+		ShortPrefixCombFactory[] factories = { //
+				ShortPrefixCombFactory.builder().withTimeFunction(() -> time).withIncrementPlus1().build(),
+				ShortPrefixCombFactory.builder().withTimeFunction(() -> time).withIncrementPlusN().build(),
+				ShortPrefixCombFactory.builder().withTimeFunction(() -> time).withIncrementPlusN(16).build() };
+
+		for (ShortPrefixCombFactory factory : factories) {
+
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				list[i] = factory.create();
+			}
+
+			checkNotNull(list);
+			checkVersion(list, 4);
+			checkUniqueness(list);
+
+			// the same interval in ascending order
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				assertEquals(prefix, list[i].getMostSignificantBits() >>> 48);
+				if (i > 0) {
+					UUID prev = list[i - 1];
+					int msb = Long.compareUnsigned(prev.getMostSignificantBits(), list[i].getMostSignificantBits());
+					int lsb = Long.compareUnsigned(prev.getLeastSignificantBits(), list[i].getLeastSignificantBits());
+					assertTrue("The UUID list is not ordered", msb < 0 || (msb == 0 && lsb < 0));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testGetShortPrefixCombWithIncrementAndClockGoingBack() {
+
+		// the last interval before the prefix wraps around
+		final long time = 0xffffL * DEFAULT_INTERVAL;
+		final AtomicLong clock = new AtomicLong(time);
+
+		ShortPrefixCombFactory factory = ShortPrefixCombFactory.builder().withTimeFunction(clock::get)
+				.withIncrementPlusN().build();
+
+		UUID uuid1 = factory.create();
+
+		// the clock goes back 1 interval: keep incrementing
+		clock.set(time - DEFAULT_INTERVAL);
+		UUID uuid2 = factory.create();
+		assertEquals(0xffffL, uuid2.getMostSignificantBits() >>> 48);
+		int msb = Long.compareUnsigned(uuid1.getMostSignificantBits(), uuid2.getMostSignificantBits());
+		int lsb = Long.compareUnsigned(uuid1.getLeastSignificantBits(), uuid2.getLeastSignificantBits());
+		assertTrue("The UUID list is not ordered", msb < 0 || (msb == 0 && lsb < 0));
+
+		// the prefix wraps around: the state is drawn again
+		clock.set(time + DEFAULT_INTERVAL);
+		UUID uuid3 = factory.create();
+		assertEquals(0L, uuid3.getMostSignificantBits() >>> 48);
+	}
+
+	@Test
+	public void testGetShortPrefixCombWithInvalidIncrement() {
+		try {
+			ShortPrefixCombFactory.builder().withIncrementPlusN(0).build();
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
 	@Override
 	protected void checkOrdering(UUID[] list) {
 		UUID[] other = Arrays.copyOf(list, list.length);
@@ -8,10 +8,14 @@ import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstNameBasedFactory;
 import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.UUID;
 
 public class NameBasedMd5FactoryTest extends UuidFactoryTest {
@@ -91,6 +95,13 @@ public class NameBasedMd5FactoryTest extends UuidFactoryTest {
 			{ "4c89193e-d988-306a-9fe1-616d11d4f7af", "The Rising Hawk" }, //
 	};
 
+	private static final String[] ZERO_COPY_NAMES = { //
+			"", "www.example.com", "S\u00e3o Paulo", "\u65e5\u672c\u8a9e", //
+			"emoji \ud83d\ude00 and \ud83c\udf89", // surrogate pairs
+			"lone \ud83d high", "lone \ude00 low", "\ud83d", // unpaired surrogates
+			new String(new char[1000]).replace('\0', '\u00e9') + "\ud83d\ude00", // longer than the buffer
+	};
+
 	@Test
 	public void testNameBasedMd5() {
 
@@ -431,6 +442,177 @@ public class NameBasedMd5FactoryTest extends UuidFactoryTest {
 		}
 	}
 
+	@Test
+	public void testNameBasedMd5WithCharSequence() {
+
+		NameBasedMd5Factory factory = new NameBasedMd5Factory(NAMESPACE_DNS_UUID);
+
+		for (String name : ZERO_COPY_NAMES) {
+			UUID expected = factory.create(name);
+			assertEquals(expected, factory.create(new StringBuilder(name)));
+			assertEquals(expected, factory.create(NAMESPACE_DNS_UUID, (CharSequence) name));
+			assertEquals(expected, UuidCreator.getNameBasedMd5(NAMESPACE_DNS_UUID, new StringBuilder(name)));
+			assertEquals(UuidCreator.getNameBasedMd5(name), UuidCreator.getNameBasedMd5(new StringBuilder(name)));
+		}
+	}
+
+	@Test
+	public void testNameBasedMd5WithByteBuffer() {
+
+		NameBasedMd5Factory factory = new NameBasedMd5Factory(NAMESPACE_DNS_UUID);
+
+		for (String name : ZERO_COPY_NAMES) {
+			byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+			UUID expected = factory.create(bytes);
+
+			byte[] padded = new byte[bytes.length + 8];
+			System.arraycopy(bytes, 0, padded, 4, bytes.length);
+			ByteBuffer heap = ByteBuffer.wrap(padded, 4, bytes.length);
+			assertEquals(expected, factory.create(heap));
+			assertEquals(4, heap.position()); // unchanged
+
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+			direct.put(bytes).flip();
+			assertEquals(expected, factory.create(NAMESPACE_DNS_UUID, direct));
+			assertEquals(0, direct.position()); // unchanged
+
+			assertEquals(expected, UuidCreator.getNameBasedMd5(NAMESPACE_DNS_UUID, direct));
+		}
+	}
+
+	@Test
+	public void testNameBasedMd5WithByteArraySlice() {
+
+		NameBasedMd5Factory factory = new NameBasedMd5Factory(NAMESPACE_DNS_UUID);
+
+		for (String name : ZERO_COPY_NAMES) {
+			byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+			UUID expected = factory.create(bytes);
+
+			byte[] padded = new byte[bytes.length + 8];
+			System.arraycopy(bytes, 0, padded, 4, bytes.length);
+			assertEquals(expected, factory.create(padded, 4, bytes.length));
+			assertEquals(expected, factory.create(NAMESPACE_DNS_UUID, padded, 4, bytes.length));
+			assertEquals(expected, UuidCreator.getNameBasedMd5(NAMESPACE_DNS_UUID, padded, 4, bytes.length));
+			assertEquals(UuidCreator.getNameBasedMd5(bytes), UuidCreator.getNameBasedMd5(padded, 4, bytes.length));
+		}
+
+		try {
+			factory.create(new byte[8], 4, 5);
+			fail("Should throw an exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testNameBasedMd5WithCache() {
+
+		NameBasedMd5Factory plain = new NameBasedMd5Factory(NAMESPACE_DNS_UUID);
+		NameBasedMd5Factory cached = NameBasedMd5Factory.builder().withNamespace(NAMESPACE_DNS_UUID).withCache(100).build();
+
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < LIST_DNS.length; i++) {
+				String name = LIST_DNS[i][1];
+				assertEquals(plain.create(name), cached.create(name));
+				assertEquals(plain.create(name.getBytes(StandardCharsets.UTF_8)),
+						cached.create(name.getBytes(StandardCharsets.UTF_8)));
+				assertEquals(plain.create(NAMESPACE_URL_UUID, name), cached.create(NAMESPACE_URL_UUID, name));
+			}
+		}
+
+		// the first round misses, the others hit
+		assertEquals(3 * LIST_DNS.length, cached.getCacheMisses());
+		assertEquals(6 * LIST_DNS.length, cached.getCacheHits());
+		assertEquals(0, plain.getCacheHits());
+		assertEquals(0, plain.getCacheMisses());
+	}
+
+	@Test
+	public void testNameBasedMd5WithCacheMemoryCap() {
+
+		NameBasedMd5Factory plain = new NameBasedMd5Factory(NAMESPACE_DNS_UUID);
+		NameBasedMd5Factory cached = NameBasedMd5Factory.builder().withNamespace(NAMESPACE_DNS_UUID).withCache(100, 4096)
+				.build();
+
+		// each long name takes most of the memory cap
+		final String a = new String(new char[1500]).replace('\0', 'a');
+		final String b = new String(new char[1500]).replace('\0', 'b');
+		assertEquals(plain.create(a), cached.create(a));
+		assertEquals(plain.create(a), cached.create(a));
+		assertEquals(plain.create(b), cached.create(b)); // evicts a
+		assertEquals(plain.create(a), cached.create(a));
+
+		// a name that does not fit is never cached
+		final String c = new String(new char[3000]).replace('\0', 'c');
+		assertEquals(plain.create(c), cached.create(c));
+		assertEquals(plain.create(c), cached.create(c));
+
+		assertEquals(1, cached.getCacheHits());
+		assertEquals(5, cached.getCacheMisses());
+
+		try {
+			NameBasedMd5Factory.builder().withCache(100, 0);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testNameBasedMd5WithCacheEviction() {
+
+		final int size = 16;
+		NameBasedMd5Factory plain = new NameBasedMd5Factory(NAMESPACE_DNS_UUID);
+		NameBasedMd5Factory cached = NameBasedMd5Factory.builder().withNamespace(NAMESPACE_DNS_UUID).withCache(size).build();
+
+		// a hot name survives a stream of cold names
+		final String hot = "hot.example.com";
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(plain.create(hot), cached.create(hot));
+			assertEquals(plain.create("cold" + i), cached.create("cold" + i));
+		}
+
+		assertEquals(999, cached.getCacheHits());
+		assertEquals(1001, cached.getCacheMisses());
+
+		// the cached key must not share the array with the caller
+		byte[] name = "mutable".getBytes(StandardCharsets.UTF_8);
+		UUID expected = plain.create(name);
+		assertEquals(expected, cached.create(name));
+		name[0] = 'M';
+		assertEquals(plain.create(name), cached.create(name));
+		name[0] = 'm';
+		assertEquals(expected, cached.create(name));
+
+		try {
+			NameBasedMd5Factory.builder().withCache(0);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testNameBasedMd5CreateAll() {
+
+		NameBasedMd5Factory factory = new NameBasedMd5Factory(NAMESPACE_DNS_UUID);
+
+		String[] names = new String[10_000];
+		byte[][] bytes = new byte[names.length][];
+		UUID[] expected = new UUID[names.length];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = "name" + i;
+			bytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+			expected[i] = factory.create(names[i]);
+		}
+
+		assertArrayEquals(expected, factory.createAll(names));
+		assertArrayEquals(expected, factory.createAll(bytes));
+		assertEquals(Arrays.asList(expected), factory.createAll(Arrays.asList(names)));
+		assertEquals(Arrays.asList(expected), factory.createAll(Arrays.stream(bytes)));
+	}
+
 	private static class TestRunnable implements Runnable {
 
 		private final int threadId;
@@ -5,12 +5,18 @@ import org.junit.Test;
 import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
+import com.github.f4b6a3.uuid.factory.function.impl.ChaCha20RandomFunction;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
 import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 
 public class RandomBasedFactoryTest extends UuidFactoryTest {
@@ -43,6 +49,148 @@ public class RandomBasedFactoryTest extends UuidFactoryTest {
 		checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
 	}
 
+	@Test
+	public void testCreateBatch() {
+
+		UUID[] list = new RandomBasedFactory().createBatch(DEFAULT_LOOP_MAX);
+
+		checkNotNull(list);
+		checkUniqueness(list);
+		checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+	}
+
+	@Test
+	public void testGetRandomBasedWithBufferedRandom() {
+
+		RandomBasedFactory factory = RandomBasedFactory.builder().withSafeRandom(256, 1024).build();
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+
+		checkNotNull(list);
+		checkUniqueness(list);
+		checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+	}
+
+	@Test
+	public void testGetRandomBasedWithBufferedRandomInParallel() throws InterruptedException {
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		TestThread.clearHashSet();
+
+		// all the threads share the same factory
+		RandomBasedFactory factory = RandomBasedFactory.builder().withSafeRandom(4096).build();
+
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new TestThread(factory, DEFAULT_LOOP_MAX);
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
+	}
+
+	@Test
+	public void testGetRandomBasedWithChaCha20() {
+
+		RandomBasedFactory factory = RandomBasedFactory.builder().withRandomFunction(new ChaCha20RandomFunction())
+				.build();
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+
+		checkNotNull(list);
+		checkUniqueness(list);
+		checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+	}
+
+	@Test
+	public void testCreateInto() {
+
+		RandomBasedFactory[] factories = { //
+				new RandomBasedFactory(), //
+				RandomBasedFactory.builder().withFastRandom().build() };
+
+		for (RandomBasedFactory factory : factories) {
+			UUID[] list = createInto(factory);
+			checkNotNull(list);
+			checkUniqueness(list);
+			checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+		}
+	}
+
+	@Test
+	public void testCreateIntoOutOfBounds() {
+
+		RandomBasedFactory factory = new RandomBasedFactory();
+
+		for (int offset : new int[] { -1, 3, 4 }) {
+			try {
+				factory.createInto(new long[4], offset);
+				fail("Should throw an exception");
+			} catch (IndexOutOfBoundsException e) {
+				// success
+			}
+		}
+
+		LongBuffer buffer = LongBuffer.allocate(3);
+		factory.createInto(buffer);
+		try {
+			factory.createInto(buffer);
+			fail("Should throw an exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+		assertEquals(2, buffer.position());
+	}
+
+	@Test
+	public void testCreateIntoBytes() {
+
+		RandomBasedFactory[] factories = { //
+				new RandomBasedFactory(), //
+				RandomBasedFactory.builder().withFastRandom().build() };
+
+		for (RandomBasedFactory factory : factories) {
+			UUID[] list = createIntoBytes(factory);
+			checkNotNull(list);
+			checkUniqueness(list);
+			checkVersion(list, UuidVersion.VERSION_RANDOM_BASED.getValue());
+		}
+	}
+
+	@Test
+	public void testCreateIntoBytesOutOfBounds() {
+
+		RandomBasedFactory factory = new RandomBasedFactory();
+
+		for (int offset : new int[] { -1, 1, 17 }) {
+			try {
+				factory.createInto(new byte[16], offset);
+				fail("Should throw an exception");
+			} catch (IndexOutOfBoundsException e) {
+				// success
+			}
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(31);
+		factory.createInto(buffer);
+		try {
+			factory.createInto(buffer);
+			fail("Should throw an exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+		assertEquals(16, buffer.position());
+	}
+
 	@Test
 	public void testGetRandomBasedWithRandom() {
 
@@ -116,4 +264,70 @@ public class RandomBasedFactoryTest extends UuidFactoryTest {
 		// Check if the quantity of unique UUIDs is correct
 		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
 	}
+
+	@Test
+	public void testGetRandomBasedFastSharedInParallel() throws InterruptedException {
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		TestThread.clearHashSet();
+
+		// all the threads share the same factory, which skips the lock
+		RandomBasedFactory factory = RandomBasedFactory.builder().withFastRandom().build();
+
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new TestThread(factory, DEFAULT_LOOP_MAX);
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
+	}
+
+	@Test
+	public void testGetRandomBasedWithRandomFunctionInParallel() throws InterruptedException {
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		TestThread.clearHashSet();
+
+		// a function that is not thread-safe must still be called under the lock
+		long[] counter = { 0 };
+		RandomBasedFactory factory = RandomBasedFactory.builder().withRandomFunction(() -> counter[0]++).build();
+
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new TestThread(factory, DEFAULT_LOOP_MAX);
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
+	}
+
+	@Test
+	public void testGetRandomBasedWithThreadSafeRandomFunctionInParallel() throws InterruptedException {
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		TestThread.clearHashSet();
+
+		// a function that is declared thread-safe is called without the lock
+		AtomicLong counter = new AtomicLong();
+		RandomBasedFactory factory = RandomBasedFactory.builder()
+				.withRandomFunction(() -> counter.getAndIncrement(), true).build();
+
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new TestThread(factory, DEFAULT_LOOP_MAX);
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
+	}
 }
@@ -16,6 +16,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.SplittableRandom;
 import java.util.UUID;
 
@@ -39,6 +41,14 @@ public class TimeBasedFactoryTest extends UuidFactoryTest {
 		testGetAbstractTimeBased(TimeBasedFactory.builder().withHashNodeId().build(), multicast);
 	}
 
+	@Test
+	public void testCreateIntoBytes() {
+		UUID[] list = createIntoBytes(new TimeBasedFactory());
+		checkNotNull(list);
+		checkVersion(list, 1);
+		checkUniqueness(list);
+	}
+
 	@Test
 	public void testGetTimeBasedWithNodeIdFunction() {
 
@@ -133,6 +143,98 @@ public class TimeBasedFactoryTest extends UuidFactoryTest {
 		assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), TestThread.hashSet.size());
 	}
 
+	@Test
+	public void testGetTimeBasedLockFree() {
+		boolean multicast = true;
+		testGetAbstractTimeBased(TimeBasedFactory.builder().withLockFree().build(), multicast);
+		testGetAbstractTimeBased(TimeBasedFactory.builder().withLockFree().withHashNodeId().build(), multicast);
+	}
+
+	@Test
+	public void testGetTimeBasedWithClockSeqSpill() {
+		boolean multicast = true;
+		TimeBasedFactory factory = TimeBasedFactory.builder().withClockSeqSpill(14).build();
+		testGetAbstractTimeBased(factory, multicast);
+	}
+
+	@Test
+	public void testGetTimeBasedLockFreeInParallel() throws InterruptedException {
+
+		// all threads share the same factory
+		TimeBasedFactory factory = TimeBasedFactory.builder().withLockFree().build();
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		TestThread.clearHashSet();
+
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new TestThread(factory, DEFAULT_LOOP_MAX);
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), TestThread.hashSet.size());
+	}
+
+	@Test
+	public void testGetTimeBasedStripedClockSeq() {
+		boolean multicast = true;
+		TimeBasedFactory factory = TimeBasedFactory.builder().withStripedClockSeq().build();
+		assertEquals(0, factory.getActiveStripes());
+		testGetAbstractTimeBased(factory, multicast);
+		assertEquals(1, factory.getActiveStripes());
+	}
+
+	@Test
+	public void testGetTimeBasedStripedClockSeqInParallel() throws InterruptedException {
+
+		// all threads share the same factory
+		TimeBasedFactory factory = TimeBasedFactory.builder().withStripedClockSeq().build();
+
+		UUID[][] lists = new UUID[THREAD_TOTAL][DEFAULT_LOOP_MAX];
+		Thread[] threads = new Thread[THREAD_TOTAL];
+
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			final UUID[] list = lists[i];
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < list.length; j++) {
+					list[j] = factory.create();
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// each thread has its own clock sequence
+		HashSet<Integer> clockseqs = new HashSet<>();
+		HashSet<UUID> set = new HashSet<>();
+		for (UUID[] list : lists) {
+			int clockseq = UuidUtil.getClockSequence(list[0]);
+			for (UUID uuid : list) {
+				assertEquals(clockseq, UuidUtil.getClockSequence(uuid));
+			}
+			clockseqs.add(clockseq);
+			set.addAll(Arrays.asList(list));
+		}
+
+		assertEquals(THREAD_TOTAL, clockseqs.size());
+		assertEquals(DUPLICATE_UUID_MSG, THREAD_TOTAL * DEFAULT_LOOP_MAX, set.size());
+
+		// the stripes go away with their threads
+		assertEquals(THREAD_TOTAL, factory.getActiveStripes());
+		Arrays.fill(threads, null);
+		for (int i = 0; i < 50 && factory.getActiveStripes() > 0; i++) {
+			System.gc();
+			Thread.sleep(100);
+		}
+		assertEquals(0, factory.getActiveStripes());
+	}
+
 	@Test
 	public void testGetTimeBasedWithOptionalArguments() {
 		SplittableRandom random = new SplittableRandom(1);
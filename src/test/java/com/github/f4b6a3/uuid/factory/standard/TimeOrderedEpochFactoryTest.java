@@ -5,21 +5,33 @@ import org.junit.Test;
 
 import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.FailOverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.HashNodeIdFunction;
+import com.github.f4b6a3.uuid.factory.function.impl.SpinOverflowPolicy;
+import com.github.f4b6a3.uuid.util.UuidComparator;
 import com.github.f4b6a3.uuid.util.UuidTime;
 import com.github.f4b6a3.uuid.util.UuidUtil;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
 
 public class TimeOrderedEpochFactoryTest extends UuidFactoryTest {
@@ -110,6 +122,27 @@ public class TimeOrderedEpochFactoryTest extends UuidFactoryTest {
 		checkUniqueness(list);
 	}
 
+	@Test
+	public void testGetTimeOrderedEpochWithEpochTimeFunction() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			long time = random.nextLong(1L << 48);
+			long fraction = random.nextLong(1L << 12);
+
+			// zeros prevent the counter from overflowing into `rand_a`
+			UUID uuid1 = TimeOrderedEpochFactory.builder().withEpochTimeFunction(() -> (time << 12) | fraction)
+					.withRandomFunction(() -> 0).build().create();
+			UUID uuid2 = TimeOrderedEpochFactory.builder().withTimeFunction(() -> time).build().create();
+
+			assertEquals(time, uuid1.getMostSignificantBits() >>> 16);
+			assertEquals(time, uuid2.getMostSignificantBits() >>> 16);
+
+			// the fraction of the millisecond goes to `rand_a`
+			assertEquals(fraction, uuid1.getMostSignificantBits() & 0x0fffL);
+		}
+	}
+
 	@Test
 	public void testGetTimeOrderedEpochCheckTimestamp() {
 		SplittableRandom random = new SplittableRandom(1);
@@ -362,6 +395,658 @@ public class TimeOrderedEpochFactoryTest extends UuidFactoryTest {
 		assertEquals(DUPLICATE_UUID_MSG, TestThread.hashSet.size(), (DEFAULT_LOOP_MAX * THREAD_TOTAL));
 	}
 
+	@Test
+	public void testGetTimeOrderedEpochLockFree() {
+
+		TimeOrderedEpochFactory[] factories = { //
+				TimeOrderedEpochFactory.builder().withLockFree().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withIncrementPlus1().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withIncrementPlusN().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withIncrementPlusN(1_000_000).build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withFastRandom().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withSafeRandom(4096).build() };
+
+		for (TimeOrderedEpochFactory factory : factories) {
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				list[i] = factory.create();
+			}
+
+			checkNotNull(list);
+			checkVersion(list, 7);
+			checkOrdering(list);
+			checkUniqueness(list);
+			checkMonotonicity(list);
+		}
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochLockFreeInParallel() throws InterruptedException {
+
+		TimeOrderedEpochFactory[] factories = { //
+				TimeOrderedEpochFactory.builder().withLockFree().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withIncrementPlus1().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withIncrementPlusN().build() };
+
+		for (TimeOrderedEpochFactory factory : factories) {
+
+			// all threads share the same factory
+			UUID[][] lists = new UUID[THREAD_TOTAL][DEFAULT_LOOP_MAX];
+			Thread[] threads = new Thread[THREAD_TOTAL];
+
+			for (int i = 0; i < THREAD_TOTAL; i++) {
+				final UUID[] list = lists[i];
+				threads[i] = new Thread(() -> {
+					for (int j = 0; j < list.length; j++) {
+						list[j] = factory.create();
+					}
+				});
+				threads[i].start();
+			}
+
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			HashSet<UUID> set = new HashSet<>();
+			for (UUID[] list : lists) {
+				checkMonotonicity(list);
+				set.addAll(Arrays.asList(list));
+			}
+
+			assertEquals(DUPLICATE_UUID_MSG, THREAD_TOTAL * DEFAULT_LOOP_MAX, set.size());
+		}
+	}
+
+	@Test
+	public void testCreateInto() {
+
+		TimeOrderedEpochFactory[] factories = { //
+				TimeOrderedEpochFactory.builder().build(), //
+				TimeOrderedEpochFactory.builder().withIncrementPlus1().build(), //
+				TimeOrderedEpochFactory.builder().withIncrementPlusN().build(), //
+				TimeOrderedEpochFactory.builder().withFastRandom().build(), //
+				TimeOrderedEpochFactory.builder().withSubMillisecondPrecision().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().build() };
+
+		for (TimeOrderedEpochFactory factory : factories) {
+			UUID[] list = createInto(factory);
+
+			checkNotNull(list);
+			checkVersion(list, 7);
+			checkOrdering(list);
+			checkUniqueness(list);
+			checkMonotonicity(list);
+		}
+	}
+
+	@Test
+	public void testCreateIntoBytes() {
+
+		TimeOrderedEpochFactory[] factories = { //
+				TimeOrderedEpochFactory.builder().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().build() };
+
+		for (TimeOrderedEpochFactory factory : factories) {
+			UUID[] list = createIntoBytes(factory);
+
+			checkNotNull(list);
+			checkVersion(list, 7);
+			checkOrdering(list);
+			checkUniqueness(list);
+			checkMonotonicity(list);
+		}
+	}
+
+	@Test
+	public void testCreateBatch() {
+
+		TimeOrderedEpochFactory[] factories = { //
+				TimeOrderedEpochFactory.builder().build(), //
+				TimeOrderedEpochFactory.builder().withIncrementPlus1().build(), //
+				TimeOrderedEpochFactory.builder().withIncrementPlusN().build(), //
+				TimeOrderedEpochFactory.builder().withIncrementPlusN(1_000_000).build(), //
+				TimeOrderedEpochFactory.builder().withFastRandom().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withIncrementPlus1().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withIncrementPlusN().build(), //
+				TimeOrderedEpochFactory.builder().withLockFree().withFastRandom().build(), //
+				TimeOrderedEpochFactory.builder().withSafeRandom(256).build(), //
+				TimeOrderedEpochFactory.builder().withSafeRandom(256).withIncrementPlusN().build() };
+
+		for (TimeOrderedEpochFactory factory : factories) {
+			UUID first = factory.create();
+			UUID[] list = factory.createBatch(DEFAULT_LOOP_MAX);
+			UUID last = factory.create();
+
+			checkNotNull(list);
+			checkVersion(list, 7);
+			checkOrdering(list);
+			checkUniqueness(list);
+			checkMonotonicity(list);
+			assertTrue(UuidComparator.defaultCompare(first, list[0]) < 0);
+			assertTrue(UuidComparator.defaultCompare(list[DEFAULT_LOOP_MAX - 1], last) < 0);
+		}
+	}
+
+	@Test
+	public void testCreateBatchWithRange() {
+
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().build();
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		factory.createBatch(list, 10, DEFAULT_LOOP_MAX - 20);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			if (i < 10 || i >= DEFAULT_LOOP_MAX - 10) {
+				assertEquals(null, list[i]);
+			} else {
+				assertNotNull(list[i]);
+			}
+		}
+
+		assertEquals(0, factory.createBatch(0).length);
+
+		int[][] invalid = { { -1, 1 }, { 0, -1 }, { 0, DEFAULT_LOOP_MAX + 1 }, { DEFAULT_LOOP_MAX, 1 } };
+		for (int[] range : invalid) {
+			try {
+				factory.createBatch(list, range[0], range[1]);
+				fail("Should throw an exception");
+			} catch (IndexOutOfBoundsException e) {
+				// success
+			}
+		}
+
+		try {
+			factory.createBatch(-1);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochWithCounter() {
+
+		Clock clock = clock(Instant.parse("2024-01-01T00:00:00.000Z"));
+
+		for (int bits : new int[] { 12, 20, 26, 42 }) {
+
+			TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withClock(clock).withCounter(bits)
+					.build();
+
+			UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				list[i] = factory.create();
+			}
+
+			checkNotNull(list);
+			checkVersion(list, 7);
+			checkUniqueness(list);
+			checkMonotonicity(list);
+
+			// the time and the counter go up by 1 as a single number
+			for (int i = 1; i < list.length; i++) {
+				assertEquals(counter(list[i - 1], bits) + 1, counter(list[i], bits));
+			}
+		}
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochWithCounterOverflow() {
+
+		Clock clock = clock(Instant.parse("2024-01-01T00:00:00.000Z"));
+		LongSupplier randomFunction = () -> 0xffffffffffffffffL;
+
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withClock(clock)
+				.withRandomFunction(randomFunction).withCounter(12).build();
+
+		// the most significant bit of the seed is clear: 2^11 UUIDs until overflow
+		UUID[] list = factory.createBatch(4096);
+
+		checkUniqueness(list);
+		checkMonotonicity(list);
+
+		// the time advances beyond the fixed clock
+		long time = UuidUtil.getInstant(list[list.length - 1]).toEpochMilli();
+		assertTrue(time > clock.millis());
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochWithSubMillisecondPrecision() {
+
+		final long millis = Instant.parse("2024-01-01T00:00:00.000Z").toEpochMilli();
+
+		{
+			// the time goes up by 1/4096 ms per call
+			AtomicLong time = new AtomicLong(millis << 12);
+			TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder()
+					.withEpochTimeFunction(time::incrementAndGet).withSubMillisecondPrecision().build();
+
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				UUID uuid = factory.create();
+				long msb = uuid.getMostSignificantBits();
+				assertEquals(time.get(), ((msb >>> 16) << 12) | (msb & 0x0fffL));
+			}
+		}
+
+		{
+			// the fraction is zero, but `rand_a` is not random
+			AtomicLong time = new AtomicLong(millis << 12);
+			TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder()
+					.withEpochTimeFunction(() -> time.addAndGet(1L << 12)).withRandomFunction(() -> -1L)
+					.withSubMillisecondPrecision().build();
+
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				UUID uuid = factory.create();
+				assertEquals(time.get() >> 12, uuid.getMostSignificantBits() >>> 16);
+				assertEquals(0L, uuid.getMostSignificantBits() & 0x0fffL);
+			}
+		}
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochWithSubMillisecondPrecisionInParallel() throws InterruptedException {
+
+		TimeOrderedEpochFactory[] factories = { //
+				TimeOrderedEpochFactory.builder().withSubMillisecondPrecision().build(), //
+				TimeOrderedEpochFactory.builder().withSubMillisecondPrecision().withThreadLocalState().build() };
+
+		for (TimeOrderedEpochFactory factory : factories) {
+
+			// all threads share the same factory
+			UUID[][] lists = new UUID[THREAD_TOTAL][DEFAULT_LOOP_MAX];
+			Thread[] threads = new Thread[THREAD_TOTAL];
+
+			for (int i = 0; i < THREAD_TOTAL; i++) {
+				final UUID[] list = lists[i];
+				threads[i] = new Thread(() -> {
+					for (int j = 0; j < list.length; j++) {
+						list[j] = factory.create();
+					}
+				});
+				threads[i].start();
+			}
+
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			// monotonic within each thread
+			HashSet<UUID> set = new HashSet<>();
+			for (UUID[] list : lists) {
+				checkMonotonicity(list);
+				set.addAll(Arrays.asList(list));
+			}
+
+			assertEquals(DUPLICATE_UUID_MSG, THREAD_TOTAL * DEFAULT_LOOP_MAX, set.size());
+		}
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochWithSubMillisecondPrecisionAcrossThreads() throws InterruptedException {
+
+		// the time stands still, so only the state orders the UUIDs
+		final long time = Instant.parse("2024-01-01T00:00:00.000Z").toEpochMilli() << 12;
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withEpochTimeFunction(() -> time)
+				.withSubMillisecondPrecision().build();
+
+		// the threads take turns
+		final UUID[] list = new UUID[THREAD_TOTAL * 10];
+		for (int i = 0; i < list.length; i++) {
+			final int index = i;
+			Thread thread = new Thread(() -> list[index] = factory.create());
+			thread.start();
+			thread.join();
+		}
+
+		// monotonic across threads
+		checkMonotonicity(list);
+	}
+
+	@Test
+	public void testCreateWithRandomThatIsNotThreadSafe() throws InterruptedException {
+
+		// a random function that finds out if two threads call it at once
+		final AtomicInteger callers = new AtomicInteger();
+		final AtomicBoolean overlap = new AtomicBoolean();
+		final SplittableRandom seeder = new SplittableRandom();
+		final LongSupplier unsafe = () -> {
+			if (callers.incrementAndGet() > 1) {
+				overlap.set(true);
+			}
+			Thread.yield();
+			final long value = seeder.nextLong(); // not thread-safe
+			callers.decrementAndGet();
+			return value;
+		};
+
+		TimeOrderedEpochFactory[] factories = { //
+				TimeOrderedEpochFactory.builder().withRandomFunction(unsafe).withSubMillisecondPrecision()
+						.withThreadLocalState().build(), //
+				TimeOrderedEpochFactory.builder().withRandomFunction(unsafe).withLockFree().build() };
+
+		for (TimeOrderedEpochFactory factory : factories) {
+
+			Thread[] threads = new Thread[THREAD_TOTAL];
+			for (int i = 0; i < THREAD_TOTAL; i++) {
+				threads[i] = new Thread(() -> {
+					for (int j = 0; j < 10_000; j++) {
+						factory.create();
+					}
+				});
+				threads[i].start();
+			}
+
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		}
+
+		assertFalse(overlap.get());
+	}
+
+	@Test
+	public void testGetTimeOrderedEpochWithInvalidCounter() {
+		for (int bits : new int[] { -1, 0, 11, 43, 64 }) {
+			try {
+				TimeOrderedEpochFactory.builder().withCounter(bits);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+
+	private long counter(UUID uuid, int bits) {
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+		final long time = msb >>> 16;
+		final long randa = msb & 0x0fffL;
+		final long randb = (lsb & 0x3fffffffffffffffL) >>> (74 - bits);
+		return (time << bits) | (randa << (bits - 12)) | randb;
+	}
+
+	@Test
+	public void testCreateBatchWithOverflow() {
+
+		// the counter overflows within the batch
+		Clock clock = clock(Instant.parse("2024-01-01T00:00:00.000999999Z"));
+		LongSupplier randomFunction = () -> 0xffffffffffffffffL;
+
+		TimeOrderedEpochFactory[] factories = { //
+				TimeOrderedEpochFactory.builder().withClock(clock).withRandomFunction(randomFunction).build(), //
+				TimeOrderedEpochFactory.builder().withClock(clock).withRandomFunction(randomFunction)
+						.withIncrementPlus1().build(), //
+				TimeOrderedEpochFactory.builder().withClock(clock).withRandomFunction(randomFunction)
+						.withLockFree().build() };
+
+		final int count = 500;
+
+		for (TimeOrderedEpochFactory factory : factories) {
+			UUID[] list = factory.createBatch(count);
+
+			checkNotNull(list);
+			checkVersion(list, 7);
+			checkUniqueness(list);
+			checkMonotonicity(list);
+
+			// the time advances beyond the fixed clock
+			long time = UuidUtil.getInstant(list[count - 1]).toEpochMilli();
+			assertTrue(time > clock.millis());
+		}
+	}
+
+	@Test
+	public void testCreateBatchWithPlusNOverflow() {
+
+		Clock clock = clock(Instant.parse("2024-01-01T00:00:00.000Z"));
+
+		// every increment is n = 2^60, so `rand_b` overflows every 4 UUIDs
+		// without ever being zero
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withClock(clock)
+				.withRandomFunction(() -> 0x7fffffffffffffffL).withIncrementPlusN(1L << 60).build();
+
+		final int count = 100;
+		UUID[] list = factory.createBatch(count);
+
+		checkNotNull(list);
+		checkVersion(list, 7);
+		checkUniqueness(list);
+		checkMonotonicity(list);
+	}
+
+	@Test
+	public void testCreateWithFailOverflowPolicy() {
+
+		Clock clock = clock(Instant.parse("2024-01-01T00:00:00.000Z"));
+		// the most significant bit of the seed is clear: 2^11 UUIDs until overflow
+		LongSupplier randomFunction = () -> 0xffffffffffffffffL;
+
+		FailOverflowPolicy[] policies = new FailOverflowPolicy[3];
+		for (int i = 0; i < policies.length; i++) {
+			policies[i] = OverflowPolicy.fail();
+		}
+
+		TimeOrderedEpochFactory[] factories = { //
+				TimeOrderedEpochFactory.builder().withClock(clock).withRandomFunction(randomFunction).withCounter(12)
+						.withOverflowPolicy(policies[0]).build(), //
+				TimeOrderedEpochFactory.builder().withClock(clock).withRandomFunction(randomFunction).withCounter(12)
+						.withOverflowPolicy(policies[1]).withLockFree().build(), //
+				// 2^14 UUIDs until overflow
+				TimeOrderedEpochFactory.builder().withClock(clock).withRandomFunction(() -> 0)
+						.withSubMillisecondPrecision().withOverflowPolicy(policies[2]).build() };
+
+		for (int i = 0; i < factories.length; i++) {
+
+			UUID last = null;
+			for (int j = 0; j <= (1 << 14); j++) {
+				try {
+					UUID uuid = factories[i].create();
+					if (last != null) {
+						assertTrue(UuidComparator.defaultCompare(last, uuid) < 0);
+					}
+					// never go ahead of the fixed clock
+					assertEquals(clock.millis(), UuidUtil.getInstant(uuid).toEpochMilli());
+					last = uuid;
+				} catch (IllegalStateException e) {
+					break;
+				}
+			}
+
+			assertNotNull(last);
+			assertEquals(1, policies[i].getCount());
+
+			// it keeps failing while the clock stands still
+			try {
+				factories[i].create();
+				fail();
+			} catch (IllegalStateException e) {
+				assertEquals(2, policies[i].getCount());
+			}
+		}
+	}
+
+	@Test
+	public void testCreateWithSpinOverflowPolicy() {
+
+		// the clock advances 1ms every 4096 readings
+		final AtomicLong readings = new AtomicLong(Instant.parse("2024-01-01T00:00:00.000Z").toEpochMilli() << 12);
+		SpinOverflowPolicy policy = OverflowPolicy.spin();
+
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder()
+				.withEpochTimeFunction(() -> readings.incrementAndGet() & ~0x0fffL)
+				.withRandomFunction(() -> 0xffffffffffffffffL).withCounter(12).withOverflowPolicy(policy).build();
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < list.length; i++) {
+			list[i] = factory.create();
+			// never go ahead of the clock
+			long time = UuidUtil.getInstant(list[i]).toEpochMilli();
+			assertTrue(time <= readings.get() >>> 12);
+		}
+
+		checkUniqueness(list);
+		checkMonotonicity(list);
+
+		assertTrue(policy.getCount() > 0);
+		assertEquals(0, policy.getTimeoutCount());
+	}
+
+	@Test
+	public void testCreateWithNodeBits() {
+
+		final int bits = 8;
+		final long[] nodes = { 1, 2 };
+		Clock clock = clock(Instant.parse("2024-01-01T00:00:00.000Z"));
+
+		for (int type = 0; type < 6; type++) {
+			for (boolean lockFree : new boolean[] { false, true }) {
+
+				HashSet<UUID> set = new HashSet<>();
+				for (long node : nodes) {
+
+					// the same clock and random for every node
+					SplittableRandom random = new SplittableRandom(1);
+					TimeOrderedEpochFactory.Builder builder = TimeOrderedEpochFactory.builder().withClock(clock)
+							.withRandomFunction(random::nextLong).withNodeBits(bits).withNodeId(node);
+					if (type == 1) {
+						builder.withIncrementPlus1();
+					} else if (type == 2) {
+						builder.withIncrementPlusN();
+					} else if (type == 3) {
+						builder.withCounter(12);
+					} else if (type == 4) {
+						builder.withCounter(42);
+					} else if (type == 5) {
+						builder.withSubMillisecondPrecision();
+					}
+					if (lockFree) {
+						builder.withLockFree();
+					}
+
+					UUID[] list = builder.build().createBatch(DEFAULT_LOOP_MAX);
+
+					checkVersion(list, 7);
+					checkUniqueness(list);
+					checkMonotonicity(list);
+
+					for (UUID uuid : list) {
+						assertEquals(node, uuid.getLeastSignificantBits() & ((1L << bits) - 1));
+						assertTrue(set.add(uuid));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCreateWithNodeBitsOverflow() {
+
+		final int bits = 8;
+		final long node = 0xab;
+		Clock clock = clock(Instant.parse("2024-01-01T00:00:00.000Z"));
+
+		// the increment rolls over `rand_b` and `rand_a` at once
+		TimeOrderedEpochFactory factory = TimeOrderedEpochFactory.builder().withClock(clock)
+				.withRandomFunction(() -> 0xffffffffffffffffL).withIncrementPlus1().withNodeBits(bits)
+				.withNodeId(node).build();
+
+		UUID[] list = factory.createBatch(DEFAULT_LOOP_MAX);
+
+		checkUniqueness(list);
+		checkMonotonicity(list);
+
+		for (UUID uuid : list) {
+			assertEquals(node, uuid.getLeastSignificantBits() & ((1L << bits) - 1));
+		}
+
+		// the time advances beyond the fixed clock
+		long time = UuidUtil.getInstant(list[1]).toEpochMilli();
+		assertEquals(clock.millis() + 1, time);
+	}
+
+	@Test
+	public void testCreateWithNodeBitsAndPlusNOverflow() {
+
+		final int bits = 24;
+		final long[] nodes = { 1, 0xffffff };
+		Clock clock = clock(Instant.parse("2024-01-01T00:00:00.000Z"));
+
+		for (long node : nodes) {
+			for (boolean lockFree : new boolean[] { false, true }) {
+
+				// the increment jumps over `nodeid` when `rand_b` rolls over
+				TimeOrderedEpochFactory.Builder[] builders = { //
+						TimeOrderedEpochFactory.builder().withIncrementPlusN(), //
+						TimeOrderedEpochFactory.builder().withIncrementPlusN(1L << 36) };
+
+				for (TimeOrderedEpochFactory.Builder builder : builders) {
+					builder.withClock(clock).withRandomFunction(() -> 0x7fffffffffffffffL).withNodeBits(bits)
+							.withNodeId(node);
+					if (lockFree) {
+						builder.withLockFree();
+					}
+
+					UUID[] list = builder.build().createBatch(DEFAULT_LOOP_MAX);
+
+					checkVersion(list, 7);
+					checkUniqueness(list);
+					checkMonotonicity(list);
+
+					for (UUID uuid : list) {
+						assertEquals(node, uuid.getLeastSignificantBits() & ((1L << bits) - 1));
+					}
+
+					// the carry went into `rand_a`
+					assertTrue(UuidUtil.getInstant(list[list.length - 1]).toEpochMilli() >= clock.millis());
+					assertNotEquals(list[0].getMostSignificantBits(), list[list.length - 1].getMostSignificantBits());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCreateWithNodeId() {
+
+		// 10 bits by default
+		UUID uuid = TimeOrderedEpochFactory.builder().withNodeId(0x3ff).build().create();
+		assertEquals(0x3ff, uuid.getLeastSignificantBits() & 0x3ffL);
+
+		long hash = new HashNodeIdFunction().getAsLong() & 0xfffL;
+		uuid = TimeOrderedEpochFactory.builder().withNodeBits(12).build().create();
+		assertEquals(hash, uuid.getLeastSignificantBits() & 0xfffL);
+		uuid = TimeOrderedEpochFactory.builder().withHashNodeId().withNodeBits(12).build().create();
+		assertEquals(hash, uuid.getLeastSignificantBits() & 0xfffL);
+
+		uuid = TimeOrderedEpochFactory.builder().withNodeIdFunction(() -> 0x1234).withNodeBits(4).build().create();
+		assertEquals(0x4, uuid.getLeastSignificantBits() & 0xfL);
+
+		for (int bits : new int[] { 0, -1, 25 }) {
+			try {
+				TimeOrderedEpochFactory.builder().withNodeBits(bits);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+
+		for (long nodeid : new long[] { -1, 16 }) {
+			try {
+				TimeOrderedEpochFactory.builder().withNodeBits(4).withNodeId(nodeid).build();
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+
+	private void checkMonotonicity(UUID[] list) {
+		for (int i = 1; i < list.length; i++) {
+			assertTrue("The UUID list is not monotonic", UuidComparator.defaultCompare(list[i - 1], list[i]) < 0);
+		}
+	}
+
 	@Test
 	public void testWithFixedClock() {
 
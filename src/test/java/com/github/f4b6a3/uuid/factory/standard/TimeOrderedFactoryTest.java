@@ -7,16 +7,27 @@ import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
 import com.github.f4b6a3.uuid.factory.function.ClockSeqFunction;
 import com.github.f4b6a3.uuid.factory.function.NodeIdFunction;
+import com.github.f4b6a3.uuid.factory.function.OverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.AbstOverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.FailOverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.ParkOverflowPolicy;
+import com.github.f4b6a3.uuid.factory.function.impl.SpinOverflowPolicy;
 import com.github.f4b6a3.uuid.util.UuidTime;
 import com.github.f4b6a3.uuid.util.UuidUtil;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TimeOrderedFactoryTest extends UuidFactoryTest {
 
@@ -38,6 +49,24 @@ public class TimeOrderedFactoryTest extends UuidFactoryTest {
 		testGetAbstractTimeBased(TimeOrderedFactory.builder().withHashNodeId().build(), multicast);
 	}
 
+	@Test
+	public void testCreateInto() {
+		UUID[] list = createInto(new TimeOrderedFactory());
+		checkNotNull(list);
+		checkVersion(list, 6);
+		checkOrdering(list);
+		checkUniqueness(list);
+	}
+
+	@Test
+	public void testCreateIntoBytes() {
+		UUID[] list = createIntoBytes(new TimeOrderedFactory());
+		checkNotNull(list);
+		checkVersion(list, 6);
+		checkOrdering(list);
+		checkUniqueness(list);
+	}
+
 	@Test
 	public void testGetTimeOrderedWithNodeIdFunction() {
 
@@ -132,6 +161,244 @@ public class TimeOrderedFactoryTest extends UuidFactoryTest {
 		assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), TestThread.hashSet.size());
 	}
 
+	@Test
+	public void testGetTimeOrderedLockFree() {
+		boolean multicast = true;
+		testGetAbstractTimeBased(TimeOrderedFactory.builder().withLockFree().build(), multicast);
+		testGetAbstractTimeBased(TimeOrderedFactory.builder().withLockFree().withHashNodeId().build(), multicast);
+	}
+
+	@Test
+	public void testGetTimeOrderedLockFreeInParallel() throws InterruptedException {
+
+		// all threads share the same factory
+		TimeOrderedFactory factory = TimeOrderedFactory.builder().withLockFree().build();
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		TestThread.clearHashSet();
+
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new TestThread(factory, DEFAULT_LOOP_MAX);
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), TestThread.hashSet.size());
+	}
+
+	@Test
+	public void testGetTimeOrderedLockFreeWithClockGoingBack() {
+
+		final long start = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli() * UuidTime.TICKS_PER_MILLI;
+		final AtomicLong clock = new AtomicLong(start);
+		TimeOrderedFactory factory = TimeOrderedFactory.builder().withLockFree().withTimeFunction(clock::get).build();
+
+		// the clock stands still: each UUID borrows the next tick
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < list.length; i++) {
+			list[i] = factory.create();
+			assertEquals(UuidTime.toGregTimestamp(start) + i, UuidUtil.getTimestamp(list[i]));
+			assertEquals(UuidUtil.getClockSequence(list[0]), UuidUtil.getClockSequence(list[i]));
+		}
+		checkOrdering(list);
+
+		// the clock goes back less than 1 second: keep borrowing
+		clock.set(start - UuidTime.TICKS_PER_MILLI);
+		UUID uuid = factory.create();
+		assertEquals(UuidTime.toGregTimestamp(start) + list.length, UuidUtil.getTimestamp(uuid));
+
+		// the clock goes back more than 1 second: change the clock sequence
+		clock.set(start - 2 * UuidTime.TICKS_PER_SECOND);
+		UUID[] other = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < other.length; i++) {
+			other[i] = factory.create();
+			assertEquals(UuidTime.toGregTimestamp(start - 2 * UuidTime.TICKS_PER_SECOND) + i,
+					UuidUtil.getTimestamp(other[i]));
+		}
+		assertNotEquals(UuidUtil.getClockSequence(list[0]), UuidUtil.getClockSequence(other[0]));
+		checkOrdering(other);
+
+		HashSet<UUID> set = new HashSet<>(Arrays.asList(list));
+		set.addAll(Arrays.asList(other));
+		set.add(uuid);
+		assertEquals(DUPLICATE_UUID_MSG, 2 * DEFAULT_LOOP_MAX + 1, set.size());
+	}
+
+	@Test
+	public void testGetTimeOrderedWithClockSeqSpill() {
+		boolean multicast = true;
+		TimeOrderedFactory factory = TimeOrderedFactory.builder().withClockSeqSpill(8).build();
+		testGetAbstractTimeBased(factory, multicast);
+	}
+
+	@Test
+	public void testGetTimeOrderedWithClockSeqSpillAndStandingClock() {
+
+		final int bits = 8;
+		final int spills = (1 << bits) - 1;
+		final long start = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli() * UuidTime.TICKS_PER_MILLI;
+		final AtomicLong clock = new AtomicLong(start);
+		TimeOrderedFactory factory = TimeOrderedFactory.builder().withClockSeqSpill(bits)
+				.withTimeFunction(clock::get).build();
+
+		// the clock stands still: spend the ticks of the millisecond, then spill
+		final int ceiling = (int) UuidTime.TICKS_PER_MILLI + spills;
+		UUID[] list = new UUID[ceiling];
+		for (int i = 0; i < list.length; i++) {
+			list[i] = factory.create();
+		}
+
+		final long clockseq = UuidUtil.getClockSequence(list[0]);
+		for (int i = 0; i < UuidTime.TICKS_PER_MILLI; i++) {
+			assertEquals(UuidTime.toGregTimestamp(start) + i, UuidUtil.getTimestamp(list[i]));
+			assertEquals(clockseq, UuidUtil.getClockSequence(list[i]));
+		}
+		for (int i = 1; i <= spills; i++) {
+			UUID uuid = list[(int) UuidTime.TICKS_PER_MILLI - 1 + i];
+			assertEquals(UuidTime.toGregTimestamp(start) + UuidTime.TICKS_PER_MILLI - 1, UuidUtil.getTimestamp(uuid));
+			assertEquals(clockseq | i, UuidUtil.getClockSequence(uuid));
+		}
+		checkOrdering(list);
+		checkUniqueness(list);
+
+		assertEquals(spills, factory.getSpilledCount());
+		assertEquals(0, factory.getBorrowedCount());
+		assertEquals(UuidTime.TICKS_PER_MILLI - 1, factory.getMaxDrift());
+
+		// above the ceiling: borrow a tick
+		UUID borrowed = factory.create();
+		assertEquals(UuidTime.toGregTimestamp(start) + UuidTime.TICKS_PER_MILLI, UuidUtil.getTimestamp(borrowed));
+		assertEquals(1, factory.getBorrowedCount());
+		assertEquals(UuidTime.TICKS_PER_MILLI, factory.getMaxDrift());
+
+		// the clock advances: back to the clock
+		clock.set(start + 2 * UuidTime.TICKS_PER_MILLI);
+		UUID uuid = factory.create();
+		assertEquals(UuidTime.toGregTimestamp(start) + 2 * UuidTime.TICKS_PER_MILLI, UuidUtil.getTimestamp(uuid));
+		assertEquals(clockseq, UuidUtil.getClockSequence(uuid));
+	}
+
+	@Test
+	public void testGetTimeOrderedWithFailOverflowPolicy() {
+
+		final int bits = 8;
+		final long start = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli() * UuidTime.TICKS_PER_MILLI;
+		final AtomicLong clock = new AtomicLong(start);
+
+		FailOverflowPolicy[] policies = new FailOverflowPolicy[3];
+		for (int i = 0; i < policies.length; i++) {
+			policies[i] = OverflowPolicy.fail();
+		}
+
+		TimeOrderedFactory[] factories = { //
+				TimeOrderedFactory.builder().withTimeFunction(clock::get).withOverflowPolicy(policies[0])
+						.withLockFree().build(), //
+				TimeOrderedFactory.builder().withTimeFunction(clock::get).withOverflowPolicy(policies[1])
+						.withStripedClockSeq().build(), //
+				TimeOrderedFactory.builder().withTimeFunction(clock::get).withOverflowPolicy(policies[2])
+						.withClockSeqSpill(bits).build() };
+		final int[] ceilings = { //
+				(int) UuidTime.TICKS_PER_MILLI, //
+				(int) UuidTime.TICKS_PER_MILLI, //
+				(int) UuidTime.TICKS_PER_MILLI + (1 << bits) - 1 };
+
+		for (int i = 0; i < factories.length; i++) {
+
+			// the clock stands still: spend the ticks of the millisecond
+			UUID[] list = new UUID[ceilings[i]];
+			for (int j = 0; j < list.length; j++) {
+				list[j] = factories[i].create();
+				assertTrue(UuidUtil.getTimestamp(list[j]) < UuidTime.toGregTimestamp(start) + UuidTime.TICKS_PER_MILLI);
+			}
+			checkOrdering(list);
+			checkUniqueness(list);
+			assertEquals(0, policies[i].getCount());
+
+			// never go ahead of the clock
+			try {
+				factories[i].create();
+				fail("Should throw an exception");
+			} catch (IllegalStateException e) {
+				assertEquals(1, policies[i].getCount());
+			}
+		}
+	}
+
+	@Test
+	public void testGetTimeOrderedLockFreeWithWaitingOverflowPolicy() {
+
+		final long start = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli() * UuidTime.TICKS_PER_MILLI;
+
+		for (AbstOverflowPolicy policy : new AbstOverflowPolicy[] { OverflowPolicy.spin(), OverflowPolicy.park() }) {
+
+			// the clock advances 1 millisecond every 12,000 readings
+			final AtomicLong readings = new AtomicLong();
+			final AtomicLong clock = new AtomicLong(start);
+			TimeOrderedFactory factory = TimeOrderedFactory.builder().withLockFree().withOverflowPolicy(policy)
+					.withTimeFunction(() -> clock
+							.updateAndGet(x -> start + (readings.incrementAndGet() / 12_000) * UuidTime.TICKS_PER_MILLI))
+					.build();
+
+			// wait for the clock instead of going ahead of it
+			UUID[] list = new UUID[3 * (int) UuidTime.TICKS_PER_MILLI];
+			for (int i = 0; i < list.length; i++) {
+				list[i] = factory.create();
+				assertTrue(UuidUtil.getTimestamp(list[i]) < UuidTime.toGregTimestamp(clock.get()) + UuidTime.TICKS_PER_MILLI);
+			}
+			checkOrdering(list);
+			checkUniqueness(list);
+			assertTrue(policy.getCount() > 0);
+			assertEquals(0, factory.getBorrowedCount());
+		}
+
+		final Duration maxWait = Duration.ofMillis(10);
+		SpinOverflowPolicy spin = new SpinOverflowPolicy(maxWait);
+		ParkOverflowPolicy park = new ParkOverflowPolicy(maxWait);
+
+		for (OverflowPolicy policy : new OverflowPolicy[] { spin, park }) {
+
+			// the clock stands still: give up after the maximum wait
+			TimeOrderedFactory factory = TimeOrderedFactory.builder().withLockFree().withOverflowPolicy(policy)
+					.withTimeFunction(() -> start).build();
+			for (int i = 0; i < UuidTime.TICKS_PER_MILLI; i++) {
+				factory.create();
+			}
+			try {
+				factory.create();
+				fail("Should throw an exception");
+			} catch (IllegalStateException e) {
+				// success
+			}
+		}
+
+		assertEquals(1, spin.getTimeoutCount());
+		assertEquals(1, park.getTimeoutCount());
+	}
+
+	@Test
+	public void testGetTimeOrderedWithInvalidClockSeqSpill() {
+		for (int bits : new int[] { 0, -1, 15 }) {
+			try {
+				TimeOrderedFactory.builder().withClockSeqSpill(bits);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testGetTimeOrderedStripedClockSeq() {
+		boolean multicast = true;
+		TimeOrderedFactory factory = TimeOrderedFactory.builder().withStripedClockSeq().build();
+		assertEquals(0, factory.getActiveStripes());
+		testGetAbstractTimeBased(factory, multicast);
+		assertEquals(1, factory.getActiveStripes());
+	}
+
 	@Test
 	public void testGetTimeOrderedWithOptionalArguments() {
 		SplittableRandom random = new SplittableRandom(1);
@@ -0,0 +1,59 @@
+package com.github.f4b6a3.uuid.util.internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class RandomUtilTest {
+
+	private static final int LOOP_MAX = 10_000;
+
+	@Test
+	public void testNextBytes() {
+		for (int length = 0; length < 64; length++) {
+			assertEquals(length, RandomUtil.nextBytes(length).length);
+		}
+	}
+
+	@Test
+	public void testNextLong() {
+		Set<Long> set = new HashSet<>();
+		for (int i = 0; i < LOOP_MAX; i++) {
+			set.add(RandomUtil.nextLong());
+		}
+		assertEquals(LOOP_MAX, set.size());
+	}
+
+	@Test
+	public void testNextLongInParallel() throws InterruptedException {
+
+		final int threadTotal = Math.max(4, Runtime.getRuntime().availableProcessors()) * 2;
+
+		Set<Long> set = new HashSet<>();
+		Thread[] threads = new Thread[threadTotal];
+
+		for (int i = 0; i < threadTotal; i++) {
+			threads[i] = new Thread(() -> {
+				long[] numbers = new long[LOOP_MAX];
+				for (int j = 0; j < LOOP_MAX; j++) {
+					numbers[j] = RandomUtil.nextLong();
+				}
+				synchronized (set) {
+					for (long number : numbers) {
+						set.add(number);
+					}
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(threadTotal * LOOP_MAX, set.size());
+	}
+}